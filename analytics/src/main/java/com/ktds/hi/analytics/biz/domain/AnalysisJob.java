@@ -0,0 +1,65 @@
+package com.ktds.hi.analytics.biz.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 분석 작업 도메인 클래스
+ * 비동기로 수행되는 매장 AI 분석 요청의 진행 상태를 나타냄
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class AnalysisJob {
+
+    private String jobId;
+    private Long storeId;
+    private Integer days;
+    private AnalysisJobStatus status;
+    private Long feedbackId;
+    private Integer totalReviewsAnalyzed;
+    private String errorMessage;
+    private LocalDateTime requestedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    /**
+     * 실행 시작 상태로 전환
+     */
+    public AnalysisJob start() {
+        return toBuilder()
+            .status(AnalysisJobStatus.RUNNING)
+            .startedAt(LocalDateTime.now())
+            .build();
+    }
+
+    /**
+     * 완료 상태로 전환
+     */
+    public AnalysisJob complete(Long feedbackId, Integer totalReviewsAnalyzed) {
+        return toBuilder()
+            .status(AnalysisJobStatus.COMPLETED)
+            .feedbackId(feedbackId)
+            .totalReviewsAnalyzed(totalReviewsAnalyzed)
+            .completedAt(LocalDateTime.now())
+            .build();
+    }
+
+    /**
+     * 실패 상태로 전환
+     */
+    public AnalysisJob fail(String errorMessage) {
+        return toBuilder()
+            .status(AnalysisJobStatus.FAILED)
+            .errorMessage(errorMessage)
+            .completedAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.ktds.hi.analytics.biz.domain;
+
+/**
+ * AI 분석 작업 상태 열거형
+ */
+public enum AnalysisJobStatus {
+    QUEUED("대기"),
+    RUNNING("진행 중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String description;
+
+    AnalysisJobStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
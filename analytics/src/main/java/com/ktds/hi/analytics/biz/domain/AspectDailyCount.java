@@ -0,0 +1,24 @@
+package com.ktds.hi.analytics.biz.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 매장 일별 항목 언급 수 도메인 클래스
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AspectDailyCount {
+
+    private Long storeId;
+    private LocalDate reviewDate;
+    private ReviewAspect aspect;
+    private SentimentType sentiment;
+    private int mentionCount;
+}
@@ -0,0 +1,18 @@
+package com.ktds.hi.analytics.biz.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 리뷰 항목 언급 도메인 클래스
+ * 리뷰 한 건에서 같은 항목, 같은 감정의 언급은 한 번만 집계
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode
+public class AspectMention {
+
+    private final ReviewAspect aspect;
+    private final SentimentType sentiment;
+}
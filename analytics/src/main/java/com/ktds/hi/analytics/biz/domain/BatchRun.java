@@ -0,0 +1,30 @@
+package com.ktds.hi.analytics.biz.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 야간 일괄 분석 실행 도메인 클래스
+ * 기준일별 전체 매장 일괄 분석의 진행 상태와 실행 인스턴스의 생존 시각(heartbeat)을 나타냄
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRun {
+
+    private Long id;
+    private LocalDate batchDate;
+    private BatchRunStatus status;
+    private Integer totalStores;
+    private Integer completedStores;
+    private Integer failedStores;
+    private LocalDateTime startedAt;
+    private LocalDateTime heartbeatAt;
+    private LocalDateTime finishedAt;
+}
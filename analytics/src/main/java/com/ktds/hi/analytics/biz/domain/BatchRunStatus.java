@@ -0,0 +1,20 @@
+package com.ktds.hi.analytics.biz.domain;
+
+/**
+ * 야간 일괄 분석 실행 상태 열거형
+ */
+public enum BatchRunStatus {
+    RUNNING("진행 중"),
+    COMPLETED("완료"),
+    FAILED("실패");
+
+    private final String description;
+
+    BatchRunStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ktds.hi.analytics.biz.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 야간 일괄 분석 매장별 작업 도메인 클래스
+ * 실행 내 매장 하나의 처리 상태와 최초 배정된 파티션을 나타냄
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTask {
+
+    private Long runId;
+    private Long storeId;
+    private Integer partitionNo;
+    private BatchTaskStatus status;
+    private Integer attempts;
+}
@@ -0,0 +1,20 @@
+package com.ktds.hi.analytics.biz.domain;
+
+/**
+ * 야간 일괄 분석 매장별 작업 상태 열거형
+ */
+public enum BatchTaskStatus {
+    PENDING("대기"),
+    DONE("완료"),
+    FAILED("실패");
+
+    private final String description;
+
+    BatchTaskStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
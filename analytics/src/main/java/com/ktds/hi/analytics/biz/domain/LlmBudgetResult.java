@@ -0,0 +1,20 @@
+package com.ktds.hi.analytics.biz.domain;
+
+/**
+ * AI 호출 예산 차감 결과 열거형
+ */
+public enum LlmBudgetResult {
+    GRANTED("차감"),
+    EXHAUSTED("예산 소진"),
+    UNAVAILABLE("예산 확인 불가");
+
+    private final String description;
+
+    LlmBudgetResult(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
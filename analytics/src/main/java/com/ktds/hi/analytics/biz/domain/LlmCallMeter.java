@@ -0,0 +1,67 @@
+package com.ktds.hi.analytics.biz.domain;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * AI 호출 계량 클래스
+ * 작업 하나에서 실제로 수행된 AI 호출 수(재시도 포함)를 집계
+ * 현재 스레드에 지정되며, 작업 스레드 풀로 전달되어 청크/단계 병렬 호출도 함께 집계됨
+ */
+public final class LlmCallMeter {
+
+    private static final ThreadLocal<LlmCallMeter> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    /**
+     * 집계된 호출 수
+     */
+    public int getCalls() {
+        return calls.get();
+    }
+
+    /**
+     * 현재 스레드에 지정된 계량기 조회 (없으면 null)
+     */
+    public static LlmCallMeter current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드에 지정된 계량기에 호출 1건 기록
+     */
+    public static void record() {
+        LlmCallMeter meter = CURRENT.get();
+        if (meter != null) {
+            meter.calls.incrementAndGet();
+        }
+    }
+
+    /**
+     * 지정한 계량기로 작업 실행
+     */
+    public static <T> T callWith(LlmCallMeter meter, Supplier<T> task) {
+        LlmCallMeter previous = CURRENT.get();
+        CURRENT.set(meter);
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * 지정한 계량기로 작업 실행
+     */
+    public static void runWith(LlmCallMeter meter, Runnable task) {
+        callWith(meter, () -> {
+            task.run();
+            return null;
+        });
+    }
+}
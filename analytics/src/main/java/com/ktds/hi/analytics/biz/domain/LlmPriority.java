@@ -0,0 +1,59 @@
+package com.ktds.hi.analytics.biz.domain;
+
+import java.util.function.Supplier;
+
+/**
+ * AI 호출 우선순위 열거형
+ * 현재 스레드에서 수행되는 AI 호출의 우선순위 레인을 지정
+ */
+public enum LlmPriority {
+    INTERACTIVE("대화형"),
+    BACKGROUND("백그라운드");
+
+    private static final ThreadLocal<LlmPriority> CURRENT = new ThreadLocal<>();
+
+    private final String description;
+
+    LlmPriority(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 현재 스레드의 우선순위 조회 (지정되지 않았으면 INTERACTIVE)
+     */
+    public static LlmPriority current() {
+        LlmPriority priority = CURRENT.get();
+        return priority != null ? priority : INTERACTIVE;
+    }
+
+    /**
+     * 지정한 우선순위로 작업 실행
+     */
+    public static <T> T callWith(LlmPriority priority, Supplier<T> task) {
+        LlmPriority previous = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * 지정한 우선순위로 작업 실행
+     */
+    public static void runWith(LlmPriority priority, Runnable task) {
+        callWith(priority, () -> {
+            task.run();
+            return null;
+        });
+    }
+}
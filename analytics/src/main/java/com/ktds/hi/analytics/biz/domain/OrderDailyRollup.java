@@ -0,0 +1,56 @@
+package com.ktds.hi.analytics.biz.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 매장 일별 주문 집계 도메인 클래스
+ * 기간 통계는 일별 집계를 합산하여 계산하므로 건수 기준의 합산 가능한 값만 보관
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderDailyRollup {
+
+    private Long storeId;
+    private LocalDate date;
+    private Integer totalOrders;
+    private BigDecimal totalRevenue;
+
+    /**
+     * 시간(0~23)별 주문 수
+     */
+    private Map<Integer, Integer> hourlyOrderCounts;
+
+    /**
+     * 메뉴명별 주문 수
+     */
+    private Map<String, Integer> menuOrderCounts;
+
+    /**
+     * 연령대별 주문 수
+     */
+    private Map<String, Integer> ageDistribution;
+
+    /**
+     * 성별 주문 수
+     */
+    private Map<String, Integer> genderDistribution;
+
+    /**
+     * 주문 수가 가장 많은 시간 (주문이 없으면 null)
+     */
+    public Integer getPeakHour() {
+        return hourlyOrderCounts.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse(null);
+    }
+}
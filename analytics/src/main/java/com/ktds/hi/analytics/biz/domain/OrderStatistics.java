@@ -23,4 +23,10 @@ public class OrderStatistics {
     private Integer peakHour;
     private List<String> popularMenus;
     private Map<String, Integer> customerAgeDistribution;
+    private Map<String, Integer> customerGenderDistribution;
+
+    /**
+     * 요일(MONDAY~SUNDAY)별 0~23시 주문 수
+     */
+    private Map<String, List<Integer>> weekdayHourlyOrders;
 }
@@ -0,0 +1,25 @@
+package com.ktds.hi.analytics.biz.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 도메인 클래스
+ * 분석에 사용하는 리뷰 정보를 나타냄
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Review {
+
+    private Long reviewId;
+    private Long storeId;
+    private Integer rating;
+    private String content;
+    private LocalDateTime createdAt;
+}
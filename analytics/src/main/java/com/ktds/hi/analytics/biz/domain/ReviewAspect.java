@@ -0,0 +1,22 @@
+package com.ktds.hi.analytics.biz.domain;
+
+/**
+ * 리뷰 언급 항목 열거형
+ */
+public enum ReviewAspect {
+    TASTE("맛"),
+    SERVICE("서비스"),
+    PRICE("가격"),
+    WAIT("대기시간"),
+    CLEANLINESS("청결");
+
+    private final String description;
+
+    ReviewAspect(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
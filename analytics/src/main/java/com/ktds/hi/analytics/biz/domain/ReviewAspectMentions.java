@@ -0,0 +1,26 @@
+package com.ktds.hi.analytics.biz.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 리뷰별 항목 언급 도메인 클래스
+ * 리뷰 ID와 내용 지문으로 이미 집계된 리뷰를 식별
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewAspectMentions {
+
+    private Long reviewId;
+    private Long storeId;
+    private LocalDate reviewDate;
+    private String contentHash;
+    private List<AspectMention> mentions;
+}
@@ -0,0 +1,49 @@
+package com.ktds.hi.analytics.biz.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+/**
+ * 리뷰별 감정 분석 결과 도메인 클래스
+ * 리뷰 ID와 내용 지문(fingerprint)으로 분석 결과를 식별
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewSentiment {
+
+    private Long reviewId;
+    private Long storeId;
+    private String contentHash;
+    private SentimentType sentiment;
+    private LocalDateTime analyzedAt;
+
+    /**
+     * 저장된 결과가 현재 리뷰 내용과 동일한 내용으로 분석되었는지 확인
+     */
+    public boolean matches(String currentContentHash) {
+        return contentHash != null && contentHash.equals(currentContentHash);
+    }
+
+    /**
+     * 리뷰 내용 지문 생성 (공백 정규화 후 SHA-256)
+     */
+    public static String fingerprint(String content) {
+        String normalized = content == null ? "" : content.trim().replaceAll("\\s+", " ");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.ktds.hi.analytics.biz.domain;
+
+/**
+ * 리뷰 감정 분석 집계 결과 클래스
+ */
+public class ReviewSentimentCount {
+    private final int positiveCount;
+    private final int negativeCount;
+    private final int neutralCount;
+
+    public ReviewSentimentCount(int positiveCount, int negativeCount, int neutralCount) {
+        this.positiveCount = positiveCount;
+        this.negativeCount = negativeCount;
+        this.neutralCount = neutralCount;
+    }
+
+    public int getPositiveCount() { return positiveCount; }
+    public int getNegativeCount() { return negativeCount; }
+    public int getNeutralCount() { return neutralCount; }
+    public int getTotalCount() { return positiveCount + negativeCount + neutralCount; }
+}
@@ -0,0 +1,136 @@
+package com.ktds.hi.analytics.biz.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 다중 패턴 문자열 매처 (Aho-Corasick)
+ * 사전에 등록된 모든 패턴을 텍스트 한 번 순회로 찾아냄
+ *
+ * @param <T> 패턴에 연결된 값 타입
+ */
+public final class AhoCorasickMatcher<T> {
+
+    private final Node<T> root = new Node<>();
+
+    private AhoCorasickMatcher() {
+    }
+
+    /**
+     * 패턴-값 사전으로 매처 생성
+     */
+    public static <T> AhoCorasickMatcher<T> of(Map<String, T> dictionary) {
+        AhoCorasickMatcher<T> matcher = new AhoCorasickMatcher<>();
+        dictionary.forEach(matcher::insert);
+        matcher.buildFailureLinks();
+        return matcher;
+    }
+
+    /**
+     * 텍스트에서 겹치지 않는 가장 긴 매치 목록 조회 (왼쪽부터 우선)
+     * 예: "불친절"이 등록되어 있으면 그 안의 "친절"은 별도로 매치하지 않음
+     */
+    public List<Match<T>> findLongestMatches(String text) {
+        List<Match<T>> all = findAll(text);
+        all.sort(Comparator.<Match<T>>comparingInt(Match::start)
+            .thenComparing(Comparator.comparingInt(Match<T>::length).reversed()));
+
+        List<Match<T>> selected = new ArrayList<>();
+        int coveredUntil = 0;
+        for (Match<T> match : all) {
+            if (match.start() >= coveredUntil) {
+                selected.add(match);
+                coveredUntil = match.end();
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 텍스트에서 모든 매치 조회 (겹치는 매치 포함)
+     */
+    public List<Match<T>> findAll(String text) {
+        List<Match<T>> matches = new ArrayList<>();
+        Node<T> node = root;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while (node != root && !node.children.containsKey(c)) {
+                node = node.failure;
+            }
+            node = node.children.getOrDefault(c, root);
+
+            for (Node<T> out = node; out != null; out = out.output) {
+                if (out.pattern != null) {
+                    matches.add(new Match<>(i + 1 - out.pattern.length(), i + 1, out.pattern, out.value));
+                }
+            }
+        }
+        return matches;
+    }
+
+    private void insert(String pattern, T value) {
+        if (pattern == null || pattern.isEmpty()) {
+            return;
+        }
+        Node<T> node = root;
+        for (int i = 0; i < pattern.length(); i++) {
+            node = node.children.computeIfAbsent(pattern.charAt(i), k -> new Node<>());
+        }
+        node.pattern = pattern;
+        node.value = value;
+    }
+
+    /**
+     * 실패 링크와 출력 링크 구성 (BFS)
+     */
+    private void buildFailureLinks() {
+        Queue<Node<T>> queue = new ArrayDeque<>();
+        for (Node<T> child : root.children.values()) {
+            child.failure = root;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            Node<T> node = queue.poll();
+            for (Map.Entry<Character, Node<T>> entry : node.children.entrySet()) {
+                char c = entry.getKey();
+                Node<T> child = entry.getValue();
+
+                Node<T> failure = node.failure;
+                while (failure != root && !failure.children.containsKey(c)) {
+                    failure = failure.failure;
+                }
+                child.failure = failure.children.getOrDefault(c, root);
+                if (child.failure == child) {
+                    child.failure = root;
+                }
+                child.output = child.failure.pattern != null ? child.failure : child.failure.output;
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * 매치 결과 (start 포함, end 미포함)
+     */
+    public record Match<T>(int start, int end, String pattern, T value) {
+
+        public int length() {
+            return end - start;
+        }
+    }
+
+    private static final class Node<T> {
+        private final Map<Character, Node<T>> children = new HashMap<>();
+        private Node<T> failure;
+        private Node<T> output;
+        private String pattern;
+        private T value;
+    }
+}
@@ -0,0 +1,229 @@
+package com.ktds.hi.analytics.biz.service;
+
+import com.ktds.hi.analytics.biz.domain.AiFeedback;
+import com.ktds.hi.analytics.biz.domain.AnalysisJob;
+import com.ktds.hi.analytics.biz.domain.AnalysisJobStatus;
+import com.ktds.hi.analytics.biz.usecase.in.AiAnalysisJobUseCase;
+import com.ktds.hi.analytics.biz.usecase.in.AnalyticsUseCase;
+import com.ktds.hi.analytics.biz.usecase.out.AnalysisJobPort;
+import com.ktds.hi.analytics.biz.usecase.out.AnalyticsPort;
+import com.ktds.hi.analytics.infra.dto.AiAnalysisJobResponse;
+import com.ktds.hi.analytics.infra.dto.AiAnalysisRequest;
+import com.ktds.hi.analytics.infra.dto.AiAnalysisResponse;
+import com.ktds.hi.analytics.infra.exception.AnalysisBusyException;
+import com.ktds.hi.analytics.infra.exception.AnalysisJobNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+
+/**
+ * AI 분석 작업 서비스 클래스
+ * 매장 AI 분석을 작업 큐에 접수하고 전용 스레드 풀에서 실행
+ * 같은 매장에 대한 동시 요청은 진행 중인 작업 하나로 합침
+ * 매장 등록은 대기/실행 중에 주기적으로 연장하고, 등록을 잃거나 제한 시간이 지난 작업은 취소
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiAnalysisJobService implements AiAnalysisJobUseCase {
+
+    private final AnalyticsUseCase analyticsUseCase;
+    private final AnalyticsPort analyticsPort;
+    private final AnalysisJobPort analysisJobPort;
+
+    @Qualifier("aiAnalysisJobExecutor")
+    private final ThreadPoolTaskExecutor aiAnalysisJobExecutor;
+
+    @Value("${analytics.ai-analysis.job-timeout-minutes:10}")
+    private long jobTimeoutMinutes;
+
+    @Value("${analytics.ai-analysis.claim-ttl-seconds:120}")
+    private long claimTtlSeconds;
+
+    /**
+     * 이 인스턴스에서 대기/실행 중인 작업 (작업 ID 기준)
+     */
+    private final Map<String, ActiveJob> activeJobs = new ConcurrentHashMap<>();
+
+    @Override
+    public AiAnalysisJobResponse submitAIAnalysis(Long storeId, AiAnalysisRequest request) {
+        String jobId = UUID.randomUUID().toString();
+
+        // 1. 작업을 먼저 저장해 등록된 작업 ID로 항상 조회할 수 있도록 함
+        AnalysisJob job = AnalysisJob.builder()
+            .jobId(jobId)
+            .storeId(storeId)
+            .days(request.getDays())
+            .status(AnalysisJobStatus.QUEUED)
+            .requestedAt(LocalDateTime.now())
+            .build();
+        analysisJobPort.saveJob(job);
+
+        // 2. 같은 매장의 작업이 진행 중이면 해당 작업 반환
+        //    등록된 작업 정보가 없으면(작업 정보 만료 등) 등록이 만료될 때까지 새 작업을 받지 않음
+        Optional<String> runningJobId = analysisJobPort.claimStore(storeId, jobId, Duration.ofSeconds(claimTtlSeconds));
+        if (runningJobId.isPresent()) {
+            analysisJobPort.deleteJob(jobId);
+            Optional<AnalysisJob> runningJob = analysisJobPort.findJob(runningJobId.get());
+            if (runningJob.isEmpty()) {
+                log.warn("등록된 AI 분석 작업을 찾을 수 없어 접수 거부: storeId={}, jobId={}", storeId, runningJobId.get());
+                throw new AnalysisBusyException("진행 중인 AI 분석 작업을 확인하지 못했습니다. 잠시 후 다시 시도해주세요.");
+            }
+            log.info("진행 중인 AI 분석 작업 반환: storeId={}, jobId={}", storeId, runningJobId.get());
+            return toResponse(runningJob.get());
+        }
+
+        // 3. 스레드 풀에 제출
+        try {
+            Future<?> future = aiAnalysisJobExecutor.submit(() -> runJob(job, request));
+            activeJobs.put(jobId, new ActiveJob(job, future, System.currentTimeMillis()));
+        } catch (TaskRejectedException e) {
+            log.warn("AI 분석 작업 큐 포화로 접수 거부: storeId={}, jobId={}", storeId, jobId);
+            analysisJobPort.saveJob(job.fail("분석 요청이 많아 처리하지 못했습니다."));
+            analysisJobPort.releaseStore(storeId, jobId);
+            throw new AnalysisBusyException("AI 분석 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        log.info("AI 분석 작업 접수: storeId={}, jobId={}", storeId, jobId);
+        return toResponse(job);
+    }
+
+    @Override
+    public AiAnalysisJobResponse getAIAnalysisJob(Long storeId, String jobId) {
+        AnalysisJob job = analysisJobPort.findJob(jobId)
+            .filter(found -> storeId.equals(found.getStoreId()))
+            .orElseThrow(() -> new AnalysisJobNotFoundException(jobId));
+
+        return toResponse(job);
+    }
+
+    /**
+     * 대기/실행 중인 작업의 매장 등록 연장
+     * 등록을 잃었거나(다른 작업이 등록될 수 있음) 제한 시간이 지난 작업은 취소하여 같은 매장 작업이 중복 실행되지 않도록 함
+     */
+    @Scheduled(fixedDelayString = "${analytics.ai-analysis.claim-renew-interval-ms:30000}")
+    public void renewActiveJobs() {
+        long now = System.currentTimeMillis();
+        Duration claimTtl = Duration.ofSeconds(claimTtlSeconds);
+
+        activeJobs.forEach((jobId, active) -> {
+            if (active.future().isDone()) {
+                activeJobs.remove(jobId, active);
+                return;
+            }
+
+            Long storeId = active.job().getStoreId();
+            if (now - active.submittedAt() > Duration.ofMinutes(jobTimeoutMinutes).toMillis()) {
+                log.warn("AI 분석 작업 제한 시간 초과로 취소: storeId={}, jobId={}", storeId, jobId);
+                cancel(active, "분석 시간이 초과되었습니다.");
+                analysisJobPort.releaseStore(storeId, jobId);
+                return;
+            }
+
+            try {
+                if (!analysisJobPort.renewStore(storeId, jobId, claimTtl)) {
+                    log.warn("AI 분석 작업 매장 등록 만료로 취소: storeId={}, jobId={}", storeId, jobId);
+                    cancel(active, "분석 작업 등록이 만료되었습니다.");
+                }
+            } catch (Exception e) {
+                // 연장 실패 시 다음 주기에 다시 시도 (등록 TTL 안에 연장되지 않으면 등록 만료로 취소)
+                log.warn("AI 분석 작업 매장 등록 연장 실패: storeId={}, jobId={}", storeId, jobId, e);
+            }
+        });
+    }
+
+    /**
+     * 작업 취소, 실행 전 취소된 작업은 실패로 저장 (실행 중이던 작업은 작업 스레드가 결과를 저장)
+     */
+    private void cancel(ActiveJob active, String reason) {
+        activeJobs.remove(active.job().getJobId(), active);
+        if (active.future().cancel(true)) {
+            analysisJobPort.findJob(active.job().getJobId())
+                .filter(job -> job.getStatus() == AnalysisJobStatus.QUEUED)
+                .ifPresent(job -> analysisJobPort.saveJob(job.fail(reason)));
+        }
+    }
+
+    /**
+     * 작업 실행
+     */
+    private void runJob(AnalysisJob job, AiAnalysisRequest request) {
+        AnalysisJob running = job.start();
+        analysisJobPort.saveJob(running);
+
+        try {
+            AiAnalysisResponse response = analyticsUseCase.generateAIAnalysis(job.getStoreId(), request);
+
+            if (response.getFeedbackId() == null) {
+                analysisJobPort.saveJob(running.fail(response.getSummary()));
+                log.warn("AI 분석 작업 실패: storeId={}, jobId={}", job.getStoreId(), job.getJobId());
+            } else {
+                analysisJobPort.saveJob(running.complete(response.getFeedbackId(), response.getTotalReviewsAnalyzed()));
+                log.info("AI 분석 작업 완료: storeId={}, jobId={}, feedbackId={}",
+                    job.getStoreId(), job.getJobId(), response.getFeedbackId());
+            }
+
+        } catch (Exception e) {
+            log.error("AI 분석 작업 중 오류 발생: storeId={}, jobId={}", job.getStoreId(), job.getJobId(), e);
+            analysisJobPort.saveJob(running.fail("분석 중 오류가 발생했습니다."));
+        } finally {
+            activeJobs.remove(job.getJobId());
+            analysisJobPort.releaseStore(job.getStoreId(), job.getJobId());
+        }
+    }
+
+    private AiAnalysisJobResponse toResponse(AnalysisJob job) {
+        AiAnalysisResponse result = null;
+        if (job.getStatus() == AnalysisJobStatus.COMPLETED && job.getFeedbackId() != null) {
+            result = analyticsPort.findAIFeedbackById(job.getFeedbackId())
+                .map(feedback -> toAnalysisResult(feedback, job.getTotalReviewsAnalyzed()))
+                .orElse(null);
+        }
+
+        return AiAnalysisJobResponse.builder()
+            .jobId(job.getJobId())
+            .storeId(job.getStoreId())
+            .status(job.getStatus())
+            .requestedAt(job.getRequestedAt())
+            .completedAt(job.getCompletedAt())
+            .errorMessage(job.getErrorMessage())
+            .result(result)
+            .build();
+    }
+
+    private AiAnalysisResponse toAnalysisResult(AiFeedback feedback, Integer totalReviewsAnalyzed) {
+        return AiAnalysisResponse.builder()
+            .storeId(feedback.getStoreId())
+            .feedbackId(feedback.getId())
+            .summary(feedback.getSummary())
+            .positivePoints(feedback.getPositivePoints())
+            .negativePoints(feedback.getNegativePoints())
+            .improvementPoints(feedback.getImprovementPoints())
+            .recommendations(feedback.getRecommendations())
+            .sentimentAnalysis(feedback.getSentimentAnalysis())
+            .confidenceScore(feedback.getConfidenceScore())
+            .positiveSummary(feedback.getPositiveSummary())
+            .totalReviewsAnalyzed(totalReviewsAnalyzed)
+            .analyzedAt(feedback.getGeneratedAt())
+            .build();
+    }
+
+    /**
+     * 대기/실행 중인 작업과 접수 시각
+     */
+    private record ActiveJob(AnalysisJob job, Future<?> future, long submittedAt) {
+    }
+}
@@ -0,0 +1,296 @@
+package com.ktds.hi.analytics.biz.service;
+
+import com.ktds.hi.analytics.biz.domain.AnalysisJob;
+import com.ktds.hi.analytics.biz.domain.AnalysisJobStatus;
+import com.ktds.hi.analytics.biz.domain.LlmBudgetResult;
+import com.ktds.hi.analytics.biz.domain.LlmCallMeter;
+import com.ktds.hi.analytics.biz.domain.LlmPriority;
+import com.ktds.hi.analytics.biz.usecase.in.AiFeedbackRefreshUseCase;
+import com.ktds.hi.analytics.biz.usecase.in.AnalyticsUseCase;
+import com.ktds.hi.analytics.biz.usecase.out.AnalysisJobPort;
+import com.ktds.hi.analytics.biz.usecase.out.AnalyticsPort;
+import com.ktds.hi.analytics.biz.usecase.out.LlmBudgetPort;
+import com.ktds.hi.analytics.infra.dto.AiAnalysisRequest;
+import com.ktds.hi.analytics.infra.dto.AiAnalysisResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AI 피드백 자동 갱신 서비스 클래스
+ * 신규 리뷰 유입 속도와 마지막 분석 이후 경과 시간으로 매장 우선순위를 정하고,
+ * 시간당 AI 호출 예산과 동시 실행 수 한도 안에서 우선순위가 높은 매장부터 AI 분석을 다시 실행
+ * 예산은 실행 전 예상 호출 수만큼 미리 차감하고, 실행 후 실제 호출 수로 정산
+ * 신규 리뷰가 없는 매장은 분석하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiFeedbackRefreshService implements AiFeedbackRefreshUseCase {
+
+    private static final String BUDGET_NAME = "ai-feedback-refresh";
+    private static final Duration BUDGET_WINDOW = Duration.ofHours(1);
+    private static final double MILLIS_PER_HOUR = 3_600_000.0;
+
+    private final AnalyticsUseCase analyticsUseCase;
+    private final AnalyticsPort analyticsPort;
+    private final AnalysisJobPort analysisJobPort;
+    private final LlmBudgetPort llmBudgetPort;
+
+    @Qualifier("aiFeedbackRefreshExecutor")
+    private final ThreadPoolTaskExecutor aiFeedbackRefreshExecutor;
+
+    /**
+     * 마지막 AI 분석 이후 매장별 신규 리뷰 현황
+     */
+    private final Map<Long, ReviewActivity> activities = new ConcurrentHashMap<>();
+
+    /**
+     * 갱신 중인 매장
+     */
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    @Value("${analytics.ai-refresh.enabled:true}")
+    private boolean enabled;
+
+    @Value("${analytics.ai-refresh.hourly-call-budget:60}")
+    private int hourlyCallBudget;
+
+    @Value("${analytics.ai-refresh.estimated-calls-per-analysis:4}")
+    private int estimatedCallsPerAnalysis;
+
+    @Value("${analytics.ai-refresh.parallelism:2}")
+    private int parallelism;
+
+    @Value("${analytics.ai-refresh.min-new-reviews:3}")
+    private int minNewReviews;
+
+    @Value("${analytics.ai-refresh.min-interval-hours:6}")
+    private long minIntervalHours;
+
+    @Value("${analytics.ai-refresh.max-staleness-hours:168}")
+    private long maxStalenessHours;
+
+    @Value("${analytics.ai-refresh.retry-backoff-minutes:30}")
+    private long retryBackoffMinutes;
+
+    @Value("${analytics.ai-refresh.days:30}")
+    private int analysisDays;
+
+    @Value("${analytics.ai-analysis.job-timeout-minutes:10}")
+    private long jobTimeoutMinutes;
+
+    @Override
+    public void recordNewReview(Long storeId) {
+        if (!enabled || storeId == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        activities.merge(storeId, new ReviewActivity(now, now, 1, 0L),
+            (previous, next) -> new ReviewActivity(previous.firstReviewAt(), now,
+                previous.newReviews() + 1, previous.nextAttemptAt()));
+    }
+
+    /**
+     * 우선순위가 높은 매장부터 예산과 동시 실행 한도 안에서 AI 분석 실행
+     */
+    @Scheduled(fixedDelayString = "${analytics.ai-refresh.poll-interval-ms:60000}")
+    public void refreshPrioritizedStores() {
+        if (!enabled || activities.isEmpty()) {
+            return;
+        }
+        int slots = parallelism - running.size();
+        if (slots <= 0) {
+            return;
+        }
+
+        // 1. 후보 매장 우선순위 계산
+        long now = System.currentTimeMillis();
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(Comparator.comparingDouble(Candidate::score).reversed());
+        for (Map.Entry<Long, ReviewActivity> entry : activities.entrySet()) {
+            Long storeId = entry.getKey();
+            ReviewActivity activity = entry.getValue();
+            if (running.contains(storeId) || activity.newReviews() < minNewReviews || now < activity.nextAttemptAt()) {
+                continue;
+            }
+
+            Optional<Long> lastAnalyzedAt = findLastAnalyzedAt(storeId);
+            if (lastAnalyzedAt.isPresent() && lastAnalyzedAt.get() >= activity.lastReviewAt()) {
+                // 마지막 리뷰 이후 이미 분석됨 (점주 요청 등)
+                activities.remove(storeId, activity);
+                continue;
+            }
+
+            double stalenessHours = lastAnalyzedAt
+                .map(analyzedAt -> (now - analyzedAt) / MILLIS_PER_HOUR)
+                .orElse((double) maxStalenessHours);
+            if (stalenessHours < minIntervalHours) {
+                continue;
+            }
+            queue.offer(new Candidate(storeId, activity, score(activity, stalenessHours, now)));
+        }
+
+        // 2. 예산이 남아 있는 동안 우선순위 순으로 실행
+        int started = 0;
+        while (started < slots && !queue.isEmpty()) {
+            SubmitResult result = submit(queue.poll());
+            if (result == SubmitResult.NO_BUDGET) {
+                log.info("AI 피드백 자동 갱신 시간당 예산 소진: used={}, budget={}, waiting={}",
+                    llmBudgetPort.used(BUDGET_NAME, BUDGET_WINDOW), hourlyCallBudget, queue.size() + 1);
+                break;
+            }
+            if (result == SubmitResult.STARTED) {
+                started++;
+            }
+        }
+
+        if (started > 0) {
+            log.info("AI 피드백 자동 갱신 실행: started={}, waiting={}, tracked={}", started, queue.size(), activities.size());
+        }
+    }
+
+    /**
+     * 우선순위 점수: 신규 리뷰 유입 속도(건/시간) × (1 + 마지막 분석 이후 경과 일수)
+     */
+    private double score(ReviewActivity activity, double stalenessHours, long now) {
+        double activeHours = Math.max(1.0, (now - activity.firstReviewAt()) / MILLIS_PER_HOUR);
+        double velocity = activity.newReviews() / activeHours;
+        return velocity * (1.0 + Math.min(stalenessHours, maxStalenessHours) / 24.0);
+    }
+
+    private SubmitResult submit(Candidate candidate) {
+        Long storeId = candidate.storeId();
+        String jobId = UUID.randomUUID().toString();
+
+        // 1. 점주 요청 작업과 같은 매장 중복 실행 방지
+        if (analysisJobPort.claimStore(storeId, jobId, Duration.ofMinutes(jobTimeoutMinutes)).isPresent()) {
+            log.debug("AI 분석 진행 중인 매장 건너뜀: storeId={}", storeId);
+            return SubmitResult.SKIPPED;
+        }
+
+        // 2. 시간당 예산에서 예상 호출 수만큼 미리 차감 (실행 후 실제 호출 수로 정산)
+        if (llmBudgetPort.tryConsume(BUDGET_NAME, estimatedCallsPerAnalysis, hourlyCallBudget, BUDGET_WINDOW)
+                != LlmBudgetResult.GRANTED) {
+            analysisJobPort.releaseStore(storeId, jobId);
+            return SubmitResult.NO_BUDGET;
+        }
+
+        AnalysisJob job = AnalysisJob.builder()
+            .jobId(jobId)
+            .storeId(storeId)
+            .days(analysisDays)
+            .status(AnalysisJobStatus.QUEUED)
+            .requestedAt(LocalDateTime.now())
+            .build();
+        analysisJobPort.saveJob(job);
+
+        running.add(storeId);
+        try {
+            aiFeedbackRefreshExecutor.execute(() -> runRefresh(job, candidate));
+            return SubmitResult.STARTED;
+        } catch (TaskRejectedException e) {
+            log.warn("AI 피드백 자동 갱신 작업 거부: storeId={}", storeId);
+            running.remove(storeId);
+            llmBudgetPort.adjust(BUDGET_NAME, -estimatedCallsPerAnalysis, BUDGET_WINDOW);
+            analysisJobPort.saveJob(job.fail("자동 갱신 작업을 처리하지 못했습니다."));
+            analysisJobPort.releaseStore(storeId, jobId);
+            return SubmitResult.SKIPPED;
+        }
+    }
+
+    private void runRefresh(AnalysisJob job, Candidate candidate) {
+        Long storeId = job.getStoreId();
+        AnalysisJob runningJob = job.start();
+        analysisJobPort.saveJob(runningJob);
+        LlmCallMeter meter = new LlmCallMeter();
+
+        try {
+            log.info("AI 피드백 자동 갱신 시작: storeId={}, newReviews={}, score={}",
+                storeId, candidate.activity().newReviews(), String.format("%.2f", candidate.score()));
+
+            AiAnalysisRequest request = AiAnalysisRequest.builder().days(analysisDays).build();
+            AiAnalysisResponse response = LlmCallMeter.callWith(meter, () -> LlmPriority.callWith(
+                LlmPriority.BACKGROUND, () -> analyticsUseCase.generateAIAnalysis(storeId, request)));
+
+            if (response.getFeedbackId() == null) {
+                analysisJobPort.saveJob(runningJob.fail(response.getSummary()));
+                backOff(storeId);
+                log.warn("AI 피드백 자동 갱신 실패: storeId={}", storeId);
+            } else {
+                analysisJobPort.saveJob(runningJob.complete(response.getFeedbackId(), response.getTotalReviewsAnalyzed()));
+                markAnalyzed(storeId, candidate.activity());
+                log.info("AI 피드백 자동 갱신 완료: storeId={}, feedbackId={}", storeId, response.getFeedbackId());
+            }
+
+        } catch (Exception e) {
+            log.error("AI 피드백 자동 갱신 중 오류 발생: storeId={}", storeId, e);
+            analysisJobPort.saveJob(runningJob.fail("분석 중 오류가 발생했습니다."));
+            backOff(storeId);
+        } finally {
+            settleBudget(storeId, meter.getCalls());
+            analysisJobPort.releaseStore(storeId, job.getJobId());
+            running.remove(storeId);
+        }
+    }
+
+    /**
+     * 미리 차감한 예상 호출 수를 실제 호출 수로 정산
+     */
+    private void settleBudget(Long storeId, int actualCalls) {
+        llmBudgetPort.adjust(BUDGET_NAME, actualCalls - estimatedCallsPerAnalysis, BUDGET_WINDOW);
+        log.debug("AI 피드백 자동 갱신 호출 수 정산: storeId={}, estimated={}, actual={}",
+            storeId, estimatedCallsPerAnalysis, actualCalls);
+    }
+
+    /**
+     * 분석에 반영된 리뷰 수만큼 차감 (분석 중 들어온 리뷰는 다음 갱신 대상으로 남김)
+     */
+    private void markAnalyzed(Long storeId, ReviewActivity analyzed) {
+        activities.computeIfPresent(storeId, (id, current) -> current.lastReviewAt() > analyzed.lastReviewAt()
+            ? new ReviewActivity(analyzed.lastReviewAt(), current.lastReviewAt(),
+                current.newReviews() - analyzed.newReviews(), 0L)
+            : null);
+    }
+
+    private void backOff(Long storeId) {
+        long nextAttemptAt = System.currentTimeMillis() + Duration.ofMinutes(retryBackoffMinutes).toMillis();
+        activities.computeIfPresent(storeId, (id, current) -> new ReviewActivity(current.firstReviewAt(),
+            current.lastReviewAt(), current.newReviews(), nextAttemptAt));
+    }
+
+    private Optional<Long> findLastAnalyzedAt(Long storeId) {
+        try {
+            return analyticsPort.findAIFeedbackByStoreId(storeId)
+                .map(feedback -> feedback.getGeneratedAt() != null ? feedback.getGeneratedAt() : feedback.getCreatedAt())
+                .map(analyzedAt -> analyzedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        } catch (Exception e) {
+            log.warn("마지막 AI 분석 시각 조회 실패: storeId={}", storeId, e);
+            return Optional.empty();
+        }
+    }
+
+    private enum SubmitResult { STARTED, SKIPPED, NO_BUDGET }
+
+    private record ReviewActivity(long firstReviewAt, long lastReviewAt, int newReviews, long nextAttemptAt) {
+    }
+
+    private record Candidate(Long storeId, ReviewActivity activity, double score) {
+    }
+}
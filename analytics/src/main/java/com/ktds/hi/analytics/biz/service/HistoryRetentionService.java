@@ -0,0 +1,87 @@
+package com.ktds.hi.analytics.biz.service;
+
+import com.ktds.hi.analytics.biz.usecase.out.HistoryRetentionPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 분석 이력 보존 서비스 클래스
+ * 보존 기간이 지난 분석 데이터, AI 피드백 이력을 주기적으로 삭제하여 테이블 크기를 일정하게 유지
+ * 매장의 현재 분석 데이터와 현재 AI 피드백, 실행 계획이 참조하는 AI 피드백은 보존 기간과 관계없이 유지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HistoryRetentionService {
+
+    private final HistoryRetentionPort historyRetentionPort;
+
+    @Value("${analytics.history-retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${analytics.history-retention.analytics-days:90}")
+    private long analyticsRetentionDays;
+
+    @Value("${analytics.history-retention.ai-feedback-days:180}")
+    private long aiFeedbackRetentionDays;
+
+    @Value("${analytics.history-retention.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${analytics.history-retention.max-batches:100}")
+    private int maxBatches;
+
+    /**
+     * 보존 기간이 지난 이력 정리
+     */
+    @Scheduled(cron = "${analytics.history-retention.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void compactHistory() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            // 최신 행이 지정되지 않은 매장이 있으면 먼저 지정 (현재 데이터 삭제 방지)
+            int backfilled = historyRetentionPort.backfillLatest();
+            if (backfilled > 0) {
+                log.info("최신 분석 데이터 미지정 매장 지정: {}건", backfilled);
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime analyticsBefore = now.minusDays(analyticsRetentionDays);
+            LocalDateTime aiFeedbackBefore = now.minusDays(aiFeedbackRetentionDays);
+
+            int analyticsDeleted = deleteInBatches(
+                limit -> historyRetentionPort.deleteAnalyticsHistoryBefore(analyticsBefore, limit));
+            int aiFeedbackDeleted = deleteInBatches(
+                limit -> historyRetentionPort.deleteAiFeedbackHistoryBefore(aiFeedbackBefore, limit));
+
+            log.info("분석 이력 정리 완료: analytics={}건 (before={}), aiFeedback={}건 (before={})",
+                analyticsDeleted, analyticsBefore, aiFeedbackDeleted, aiFeedbackBefore);
+
+        } catch (Exception e) {
+            log.error("분석 이력 정리 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 삭제 건수가 배치 크기보다 작아질 때까지 배치 단위 삭제
+     */
+    private int deleteInBatches(IntUnaryOperator deleteBatch) {
+        int total = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            int deleted = deleteBatch.applyAsInt(batchSize);
+            total += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+}
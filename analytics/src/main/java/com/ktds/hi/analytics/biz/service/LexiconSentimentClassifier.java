@@ -0,0 +1,115 @@
+package com.ktds.hi.analytics.biz.service;
+
+import com.ktds.hi.analytics.biz.domain.SentimentType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 사전 기반 감정 분류 서비스 클래스
+ * 긍정/부정 표현 사전을 Aho-Corasick 매처로 한 번에 검색하여 리뷰 감정을 분류
+ * 확신도가 높은 리뷰는 AI 호출 없이 분류하고, AI 호출 실패 시 대체 분류기로 사용
+ */
+@Service
+public class LexiconSentimentClassifier {
+
+    /**
+     * 긍정 표현 사전 (공백 제거 기준, 값은 가중치)
+     */
+    private static final Map<String, Double> POSITIVE_PHRASES = Map.ofEntries(
+        Map.entry("맛있", 2.0), Map.entry("존맛", 2.0), Map.entry("꿀맛", 2.0), Map.entry("JMT", 2.0),
+        Map.entry("최고", 2.0), Map.entry("강추", 2.0), Map.entry("추천", 1.5), Map.entry("훌륭", 2.0),
+        Map.entry("친절", 1.5), Map.entry("깨끗", 1.0), Map.entry("청결", 1.0), Map.entry("만족", 1.5),
+        Map.entry("좋아", 1.5), Map.entry("좋았", 1.5), Map.entry("좋네", 1.5), Map.entry("좋다", 1.5),
+        Map.entry("좋습", 1.5), Map.entry("좋고", 1.0), Map.entry("좋은", 1.0), Map.entry("감동", 1.5),
+        Map.entry("재방문", 1.5), Map.entry("또올", 1.5), Map.entry("또갈", 1.5), Map.entry("또방문", 1.5),
+        Map.entry("신선", 1.0), Map.entry("푸짐", 1.0), Map.entry("가성비좋", 2.0), Map.entry("가성비최고", 2.0),
+        Map.entry("대박", 1.5), Map.entry("짱", 1.5), Map.entry("굿", 1.0), Map.entry("good", 1.0),
+        Map.entry("안비싸", 1.0), Map.entry("👍", 1.5), Map.entry("😍", 1.5), Map.entry("😋", 1.5),
+        Map.entry("❤", 1.0)
+    );
+
+    /**
+     * 부정 표현 사전 (공백 제거 기준, 값은 가중치)
+     * 긍정 표현을 포함하는 부정 표현(예: 불친절, 안맛있)은 더 긴 매치가 우선함
+     */
+    private static final Map<String, Double> NEGATIVE_PHRASES = Map.ofEntries(
+        Map.entry("맛없", 2.0), Map.entry("맛이없", 2.0), Map.entry("안맛있", 2.0), Map.entry("맛있지않", 2.0),
+        Map.entry("별로", 1.5), Map.entry("최악", 2.5), Map.entry("불친절", 2.0), Map.entry("친절하지않", 2.0),
+        Map.entry("더럽", 2.0), Map.entry("지저분", 2.0), Map.entry("깨끗하지않", 2.0), Map.entry("실망", 2.0),
+        Map.entry("불쾌", 2.0), Map.entry("불만", 1.5), Map.entry("후회", 2.0), Map.entry("아쉽", 1.0),
+        Map.entry("아쉬", 1.0), Map.entry("비싸", 1.0), Map.entry("느리", 1.0), Map.entry("오래걸", 1.0),
+        Map.entry("식었", 1.5), Map.entry("비린", 1.5), Map.entry("비려", 1.5), Map.entry("짜요", 1.0),
+        Map.entry("싱거", 1.0), Map.entry("안좋", 2.0), Map.entry("않좋", 2.0), Map.entry("좋지않", 2.0),
+        Map.entry("좋지못", 2.0), Map.entry("추천안", 2.0), Map.entry("추천하지않", 2.0), Map.entry("비추", 2.0),
+        Map.entry("다신안", 2.5), Map.entry("다시는안", 2.5), Map.entry("환불", 1.5), Map.entry("머리카락", 2.0),
+        Map.entry("벌레", 2.5), Map.entry("bad", 1.0), Map.entry("👎", 1.5), Map.entry("😡", 1.5)
+    );
+
+    private final AhoCorasickMatcher<Double> matcher;
+    private final double minEvidence;
+    private final double minMargin;
+
+    public LexiconSentimentClassifier(
+            @Value("${analytics.sentiment.lexicon.min-evidence:1.5}") double minEvidence,
+            @Value("${analytics.sentiment.lexicon.min-margin:0.75}") double minMargin) {
+        Map<String, Double> dictionary = new HashMap<>();
+        POSITIVE_PHRASES.forEach((phrase, weight) -> dictionary.put(normalize(phrase), weight));
+        NEGATIVE_PHRASES.forEach((phrase, weight) -> dictionary.put(normalize(phrase), -weight));
+
+        this.matcher = AhoCorasickMatcher.of(dictionary);
+        this.minEvidence = minEvidence;
+        this.minMargin = minMargin;
+    }
+
+    /**
+     * 리뷰 감정 분류
+     */
+    public Result classify(String content) {
+        if (content == null || content.isBlank()) {
+            return new Result(SentimentType.NEUTRAL, 0.0, 0.0, false);
+        }
+
+        double positive = 0.0;
+        double negative = 0.0;
+        for (AhoCorasickMatcher.Match<Double> match : matcher.findLongestMatches(normalize(content))) {
+            if (match.value() > 0) {
+                positive += match.value();
+            } else {
+                negative -= match.value();
+            }
+        }
+
+        SentimentType sentiment = positive > negative ? SentimentType.POSITIVE
+            : negative > positive ? SentimentType.NEGATIVE
+            : SentimentType.NEUTRAL;
+
+        double evidence = positive + negative;
+        boolean confident = sentiment != SentimentType.NEUTRAL
+            && evidence >= minEvidence
+            && Math.abs(positive - negative) / evidence >= minMargin;
+
+        return new Result(sentiment, positive, negative, confident);
+    }
+
+    /**
+     * 공백 제거 및 소문자 변환
+     */
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+    }
+
+    /**
+     * 사전 기반 분류 결과
+     *
+     * @param sentiment 점수가 높은 쪽의 감정 (동점이면 중립)
+     * @param positiveScore 긍정 표현 가중치 합
+     * @param negativeScore 부정 표현 가중치 합
+     * @param confident AI 분석 없이 사용해도 될 만큼 확신도가 높은지 여부
+     */
+    public record Result(SentimentType sentiment, double positiveScore, double negativeScore, boolean confident) {
+    }
+}
@@ -0,0 +1,436 @@
+package com.ktds.hi.analytics.biz.service;
+
+import com.ktds.hi.analytics.biz.domain.BatchRun;
+import com.ktds.hi.analytics.biz.domain.BatchRunStatus;
+import com.ktds.hi.analytics.biz.domain.BatchTask;
+import com.ktds.hi.analytics.biz.domain.BatchTaskStatus;
+import com.ktds.hi.analytics.biz.domain.LlmBudgetResult;
+import com.ktds.hi.analytics.biz.domain.LlmCallMeter;
+import com.ktds.hi.analytics.biz.domain.LlmPriority;
+import com.ktds.hi.analytics.biz.usecase.in.AnalyticsUseCase;
+import com.ktds.hi.analytics.biz.usecase.out.AnalysisJobPort;
+import com.ktds.hi.analytics.biz.usecase.out.AnalyticsPort;
+import com.ktds.hi.analytics.biz.usecase.out.BatchCheckpointPort;
+import com.ktds.hi.analytics.biz.usecase.out.LlmBudgetPort;
+import com.ktds.hi.analytics.biz.usecase.out.StoreDirectoryPort;
+import com.ktds.hi.analytics.infra.dto.AiAnalysisRequest;
+import com.ktds.hi.analytics.infra.dto.AiAnalysisResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 야간 일괄 분석 서비스 클래스
+ * 전체 매장의 감정 집계, 전날 주문 통계, AI 피드백을 매일 밤 다시 계산
+ * 매장 목록을 워커 수만큼 파티션으로 나누고, 자기 파티션을 끝낸 워커는 남은 작업이 가장 많은 파티션의 뒤쪽에서 가져옴(work stealing)
+ * 매장별 처리 결과를 DB에 기록하여, 실행 인스턴스가 중단되면 다른 인스턴스(또는 재시작한 인스턴스)가 남은 매장부터 이어서 처리
+ * AI 호출 예산은 매장마다 예상 호출 수만큼 미리 차감하고, 실행 후 실제 호출 수로 정산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NightlyBatchService {
+
+    private static final String BUDGET_NAME = "nightly-batch";
+    private static final Duration BUDGET_WINDOW = Duration.ofHours(1);
+    private static final long BUDGET_RETRY_MILLIS = 60_000;
+    private static final ZoneId BATCH_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final AnalyticsUseCase analyticsUseCase;
+    private final OrderStatisticsService orderStatisticsService;
+    private final AnalyticsPort analyticsPort;
+    private final AnalysisJobPort analysisJobPort;
+    private final BatchCheckpointPort batchCheckpointPort;
+    private final StoreDirectoryPort storeDirectoryPort;
+    private final LlmBudgetPort llmBudgetPort;
+
+    @Qualifier("nightlyBatchExecutor")
+    private final ThreadPoolTaskExecutor nightlyBatchExecutor;
+
+    /**
+     * 이 인스턴스에서 실행 중인지 여부
+     */
+    private final AtomicBoolean active = new AtomicBoolean(false);
+
+    /**
+     * 다음 매장 처리 시작 가능 시각 (매장 처리 속도 제한)
+     */
+    private final AtomicLong nextStoreSlot = new AtomicLong();
+
+    @Value("${analytics.nightly-batch.enabled:true}")
+    private boolean enabled;
+
+    @Value("${analytics.nightly-batch.workers:4}")
+    private int workers;
+
+    @Value("${analytics.nightly-batch.max-stores-per-minute:60}")
+    private int maxStoresPerMinute;
+
+    @Value("${analytics.nightly-batch.hourly-call-budget:300}")
+    private int hourlyCallBudget;
+
+    @Value("${analytics.nightly-batch.estimated-calls-per-analysis:4}")
+    private int estimatedCallsPerAnalysis;
+
+    @Value("${analytics.nightly-batch.budget-max-wait-minutes:90}")
+    private long budgetMaxWaitMinutes;
+
+    @Value("${analytics.nightly-batch.ai-feedback-max-age-hours:20}")
+    private long aiFeedbackMaxAgeHours;
+
+    @Value("${analytics.nightly-batch.heartbeat-seconds:30}")
+    private long heartbeatSeconds;
+
+    @Value("${analytics.nightly-batch.stale-after-seconds:180}")
+    private long staleAfterSeconds;
+
+    @Value("${analytics.nightly-batch.resume-max-age-days:1}")
+    private long resumeMaxAgeDays;
+
+    @Value("${analytics.nightly-batch.days:30}")
+    private int analysisDays;
+
+    /**
+     * 기준일 일괄 분석 시작 (같은 기준일 실행이 있으면 이어서 처리)
+     */
+    @Scheduled(cron = "${analytics.nightly-batch.cron:0 0 2 * * *}", zone = "Asia/Seoul")
+    public void startNightlyBatch() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDate batchDate = LocalDate.now(BATCH_ZONE);
+        Optional<BatchRun> existing = batchCheckpointPort.findRun(batchDate);
+        if (existing.isPresent()) {
+            resume(existing.get());
+            return;
+        }
+
+        BatchRun run;
+        try {
+            List<Long> storeIds = storeDirectoryPort.findAllStoreIds();
+            run = batchCheckpointPort.createRun(batchDate, storeIds, workers);
+        } catch (Exception e) {
+            // 다른 인스턴스가 먼저 생성한 경우 포함
+            log.warn("야간 일괄 분석 실행 생성 실패: batchDate={}", batchDate, e);
+            return;
+        }
+        launch(run);
+    }
+
+    /**
+     * 시작 시 중단된 실행이 있으면 이어서 처리
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedBatch() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            batchCheckpointPort.findLatestUnfinishedRun()
+                .filter(run -> !run.getBatchDate().isBefore(LocalDate.now(BATCH_ZONE).minusDays(resumeMaxAgeDays)))
+                .ifPresent(this::resume);
+        } catch (Exception e) {
+            log.warn("중단된 야간 일괄 분석 확인 실패", e);
+        }
+    }
+
+    /**
+     * 실행 인스턴스의 생존 시각이 오래된 경우에만 가져와서 이어서 처리
+     */
+    private void resume(BatchRun run) {
+        if (run.getStatus() != BatchRunStatus.RUNNING) {
+            log.debug("이미 종료된 야간 일괄 분석: runId={}, status={}", run.getId(), run.getStatus());
+            return;
+        }
+
+        LocalDateTime staleBefore = LocalDateTime.now().minusSeconds(staleAfterSeconds);
+        if (!batchCheckpointPort.takeOverRun(run.getId(), staleBefore)) {
+            log.info("다른 인스턴스에서 야간 일괄 분석 진행 중: runId={}", run.getId());
+            return;
+        }
+        log.info("중단된 야간 일괄 분석 이어서 처리: runId={}, batchDate={}", run.getId(), run.getBatchDate());
+        launch(run);
+    }
+
+    private void launch(BatchRun run) {
+        if (!active.compareAndSet(false, true)) {
+            log.info("이 인스턴스에서 야간 일괄 분석 진행 중: runId={}", run.getId());
+            return;
+        }
+
+        try {
+            nightlyBatchExecutor.execute(() -> {
+                try {
+                    execute(run);
+                } finally {
+                    active.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            active.set(false);
+            log.warn("야간 일괄 분석 시작 거부: runId={}", run.getId());
+        }
+    }
+
+    /**
+     * 남은 작업을 파티션별 deque에 나누어 담고 워커별로 처리
+     */
+    private void execute(BatchRun run) {
+        List<BatchTask> pending = batchCheckpointPort.findPendingTasks(run.getId());
+        int workerCount = Math.max(1, workers);
+        List<ConcurrentLinkedDeque<Long>> partitions = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            partitions.add(new ConcurrentLinkedDeque<>());
+        }
+        for (BatchTask task : pending) {
+            partitions.get(Math.floorMod(task.getPartitionNo(), workerCount)).addLast(task.getStoreId());
+        }
+
+        log.info("야간 일괄 분석 시작: runId={}, batchDate={}, pending={}/{}, workers={}",
+            run.getId(), run.getBatchDate(), pending.size(), run.getTotalStores(), workerCount);
+
+        long startedAt = System.currentTimeMillis();
+        AtomicInteger done = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger stolen = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            int own = i;
+            futures.add(CompletableFuture.runAsync(
+                () -> runWorker(run, own, partitions, done, failed, stolen), nightlyBatchExecutor));
+        }
+
+        BatchRunStatus status = awaitWorkers(run, futures);
+        if (status == BatchRunStatus.RUNNING) {
+            log.info("야간 일괄 분석 중단, 다음 시작 시 이어서 처리: runId={}, 이번 실행 처리={}",
+                run.getId(), done.get() + failed.get());
+            return;
+        }
+        BatchRun finished = batchCheckpointPort.finishRun(run.getId(), status);
+
+        log.info("야간 일괄 분석 종료: runId={}, status={}, done={}, failed={}, 이번 실행 처리={}, 작업 가져옴={}, elapsed={}s",
+            run.getId(), status, finished.getCompletedStores(), finished.getFailedStores(),
+            done.get() + failed.get(), stolen.get(), (System.currentTimeMillis() - startedAt) / 1000);
+    }
+
+    /**
+     * 워커 종료 대기 중 주기적으로 생존 시각 갱신
+     */
+    private BatchRunStatus awaitWorkers(BatchRun run, List<CompletableFuture<Void>> futures) {
+        CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+        while (true) {
+            try {
+                all.get(heartbeatSeconds, TimeUnit.SECONDS);
+                return BatchRunStatus.COMPLETED;
+            } catch (TimeoutException e) {
+                heartbeat(run);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // 종료 중이면 진행 중 상태로 남겨 다음 시작 시 이어서 처리
+                return BatchRunStatus.RUNNING;
+            } catch (ExecutionException e) {
+                log.error("야간 일괄 분석 워커 오류: runId={}", run.getId(), e.getCause());
+                return BatchRunStatus.FAILED;
+            }
+        }
+    }
+
+    private void heartbeat(BatchRun run) {
+        try {
+            batchCheckpointPort.heartbeat(run.getId());
+        } catch (Exception e) {
+            log.warn("야간 일괄 분석 생존 시각 갱신 실패: runId={}", run.getId(), e);
+        }
+    }
+
+    private void runWorker(BatchRun run, int own, List<ConcurrentLinkedDeque<Long>> partitions,
+                           AtomicInteger done, AtomicInteger failed, AtomicInteger stolen) {
+        Long storeId;
+        while ((storeId = nextStore(own, partitions, stolen)) != null) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            awaitStoreSlot();
+
+            BatchTaskStatus status = processStore(run, storeId);
+            (status == BatchTaskStatus.DONE ? done : failed).incrementAndGet();
+        }
+    }
+
+    /**
+     * 자기 파티션 앞쪽에서 꺼내고, 비어 있으면 남은 작업이 가장 많은 파티션 뒤쪽에서 가져옴
+     */
+    private Long nextStore(int own, List<ConcurrentLinkedDeque<Long>> partitions, AtomicInteger stolen) {
+        Long storeId = partitions.get(own).pollFirst();
+        while (storeId == null) {
+            ConcurrentLinkedDeque<Long> victim = null;
+            int victimSize = 0;
+            for (ConcurrentLinkedDeque<Long> partition : partitions) {
+                int size = partition.size();
+                if (size > victimSize) {
+                    victim = partition;
+                    victimSize = size;
+                }
+            }
+            if (victim == null) {
+                return null;
+            }
+            storeId = victim.pollLast();
+            if (storeId != null) {
+                stolen.incrementAndGet();
+            }
+        }
+        return storeId;
+    }
+
+    /**
+     * 매장 한 곳 처리 후 결과 기록
+     */
+    private BatchTaskStatus processStore(BatchRun run, Long storeId) {
+        BatchTaskStatus status;
+        String errorMessage = null;
+        try {
+            LlmPriority.runWith(LlmPriority.BACKGROUND, () -> {
+                // 1. 리뷰 감정 집계 및 매장 분석 데이터
+                analyticsUseCase.refreshStoreAnalytics(storeId);
+
+                // 2. 전날 주문 통계 (일별 집계 마감)
+                LocalDate yesterday = run.getBatchDate().minusDays(1);
+                orderStatisticsService.getOrderStatistics(storeId, yesterday, yesterday);
+
+                // 3. AI 피드백 (마지막 분석이 오래된 매장만)
+                refreshAIFeedback(run, storeId);
+            });
+            status = BatchTaskStatus.DONE;
+
+        } catch (Exception e) {
+            log.warn("야간 일괄 분석 매장 처리 실패: runId={}, storeId={}", run.getId(), storeId, e);
+            status = BatchTaskStatus.FAILED;
+            errorMessage = e.getMessage();
+        }
+
+        try {
+            batchCheckpointPort.updateTask(run.getId(), storeId, status, errorMessage);
+        } catch (Exception e) {
+            // 기록하지 못한 매장은 이어서 처리할 때 다시 처리됨
+            log.warn("야간 일괄 분석 체크포인트 기록 실패: runId={}, storeId={}", run.getId(), storeId, e);
+        }
+        return status;
+    }
+
+    private void refreshAIFeedback(BatchRun run, Long storeId) {
+        LocalDateTime staleBefore = LocalDateTime.now().minusHours(aiFeedbackMaxAgeHours);
+        boolean fresh = analyticsPort.findAIFeedbackByStoreId(storeId)
+            .map(feedback -> feedback.getGeneratedAt() != null ? feedback.getGeneratedAt() : feedback.getCreatedAt())
+            .filter(analyzedAt -> analyzedAt.isAfter(staleBefore))
+            .isPresent();
+        if (fresh) {
+            return;
+        }
+
+        // 점주 요청 작업과 같은 매장 중복 실행 방지
+        String jobId = "nightly-batch:" + run.getId() + ":" + storeId;
+        if (analysisJobPort.claimStore(storeId, jobId, Duration.ofHours(1)).isPresent()) {
+            log.debug("AI 분석 진행 중인 매장은 AI 피드백 생략: storeId={}", storeId);
+            return;
+        }
+
+        LlmCallMeter meter = new LlmCallMeter();
+        try {
+            awaitLlmBudget(storeId);
+            try {
+                AiAnalysisResponse response = LlmCallMeter.callWith(meter, () -> analyticsUseCase.generateAIAnalysis(
+                    storeId, AiAnalysisRequest.builder().days(analysisDays).build()));
+                if (response.getFeedbackId() == null) {
+                    throw new IllegalStateException("AI 피드백 생성 실패: " + response.getSummary());
+                }
+            } finally {
+                // 미리 차감한 예상 호출 수를 실제 호출 수로 정산
+                llmBudgetPort.adjust(BUDGET_NAME, meter.getCalls() - estimatedCallsPerAnalysis, BUDGET_WINDOW);
+            }
+        } finally {
+            analysisJobPort.releaseStore(storeId, jobId);
+        }
+    }
+
+    /**
+     * 매장 처리 속도 제한 (분당 최대 매장 수)
+     */
+    private void awaitStoreSlot() {
+        if (maxStoresPerMinute <= 0) {
+            return;
+        }
+        long interval = TimeUnit.MINUTES.toMillis(1) / maxStoresPerMinute;
+        long now = System.currentTimeMillis();
+        long slot = nextStoreSlot.getAndAccumulate(now, (next, current) -> Math.max(next, current) + interval);
+        sleep(Math.max(0, slot - now));
+    }
+
+    /**
+     * 시간당 AI 호출 예산에서 예상 호출 수 차감
+     * 예산이 소진되면 다음 구간까지, 예산 저장소 오류이면 복구될 때까지 대기하되 최대 대기 시간이 지나면 실패 처리
+     */
+    private void awaitLlmBudget(Long storeId) {
+        long deadline = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(budgetMaxWaitMinutes);
+        while (true) {
+            LlmBudgetResult result = llmBudgetPort.tryConsume(BUDGET_NAME, estimatedCallsPerAnalysis,
+                hourlyCallBudget, BUDGET_WINDOW);
+            if (result == LlmBudgetResult.GRANTED) {
+                return;
+            }
+
+            long now = System.currentTimeMillis();
+            if (now >= deadline) {
+                throw new IllegalStateException("AI 호출 예산 대기 시간 초과: " + result.getDescription());
+            }
+            long waitMillis = BUDGET_RETRY_MILLIS;
+            if (result == LlmBudgetResult.EXHAUSTED) {
+                long windowMillis = BUDGET_WINDOW.toMillis();
+                waitMillis = Math.min(windowMillis - now % windowMillis, BUDGET_RETRY_MILLIS);
+                log.info("야간 일괄 분석 AI 호출 예산 소진, 대기: storeId={}, {}초", storeId, waitMillis / 1000);
+            } else {
+                log.warn("야간 일괄 분석 AI 호출 예산 확인 불가, 대기: storeId={}, {}초", storeId, waitMillis / 1000);
+            }
+            sleep(Math.min(waitMillis, deadline - now));
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("야간 일괄 분석 중단");
+            }
+        }
+    }
+
+    private void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
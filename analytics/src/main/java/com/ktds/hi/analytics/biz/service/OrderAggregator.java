@@ -0,0 +1,308 @@
+package com.ktds.hi.analytics.biz.service;
+
+import com.ktds.hi.analytics.biz.domain.OrderDailyRollup;
+import com.ktds.hi.analytics.biz.domain.OrderStatistics;
+import com.ktds.hi.analytics.infra.dto.OrderResponse;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 주문 통계 집계 클래스
+ * 주문 목록을 한 번만 순회하며 기본형 배열(시간별, 요일×시간별, 연령대별, 성별)과 메뉴별 카운터를 채우고
+ * 모든 통계 항목을 한 번에 생성
+ * 일별 집계도 같은 카운터에 합산하여 기간 통계를 생성
+ */
+public final class OrderAggregator {
+
+    static final String[] AGE_GROUPS = {"10대", "20대", "30대", "40대", "50대", "60대+", "미분류"};
+    static final String[] GENDER_GROUPS = {"남성", "여성", "미분류"};
+
+    private static final int HOURS = 24;
+    private static final int DAYS = 7;
+    private static final int UNKNOWN_AGE = AGE_GROUPS.length - 1;
+    private static final int UNKNOWN_GENDER = GENDER_GROUPS.length - 1;
+    private static final int DEFAULT_PEAK_HOUR = 12;
+
+    private final int[] hourly = new int[HOURS];
+    private final int[] weekdayHourly = new int[DAYS * HOURS];
+    private final int[] ageGroups = new int[AGE_GROUPS.length];
+    private final int[] genderGroups = new int[GENDER_GROUPS.length];
+    private final Map<Long, MenuCounter> menus = new HashMap<>();
+    private final Map<String, MenuCounter> rollupMenus = new HashMap<>();
+
+    private int totalOrders;
+    private long revenue;
+    private BigDecimal fractionalRevenue = BigDecimal.ZERO;
+
+    /**
+     * 주문 목록 전체 집계
+     */
+    public static OrderAggregator of(List<OrderResponse> orders) {
+        OrderAggregator aggregator = new OrderAggregator();
+        if (orders != null) {
+            for (OrderResponse order : orders) {
+                aggregator.add(order);
+            }
+        }
+        return aggregator;
+    }
+
+    /**
+     * 일별 집계 목록 합산
+     */
+    public static OrderAggregator ofRollups(List<OrderDailyRollup> rollups) {
+        OrderAggregator aggregator = new OrderAggregator();
+        if (rollups != null) {
+            for (OrderDailyRollup rollup : rollups) {
+                aggregator.addRollup(rollup);
+            }
+        }
+        return aggregator;
+    }
+
+    /**
+     * 주문 한 건 반영
+     */
+    public void add(OrderResponse order) {
+        totalOrders++;
+        addRevenue(order.getOrderAmount());
+
+        LocalDateTime orderDate = order.getOrderDate();
+        if (orderDate != null) {
+            int hour = orderDate.getHour();
+            hourly[hour]++;
+            weekdayHourly[(orderDate.getDayOfWeek().getValue() - 1) * HOURS + hour]++;
+        }
+
+        ageGroups[ageGroupIndex(order.getCustomerAge())]++;
+        genderGroups[genderGroupIndex(order.getCustomerGender())]++;
+
+        if (order.getMenuId() != null) {
+            MenuCounter counter = menus.get(order.getMenuId());
+            if (counter == null) {
+                counter = new MenuCounter(order.getMenuName());
+                menus.put(order.getMenuId(), counter);
+            }
+            counter.count++;
+        }
+    }
+
+    /**
+     * 일별 집계 한 건 반영 (일별 집계의 날짜로 요일 결정)
+     */
+    public void addRollup(OrderDailyRollup rollup) {
+        totalOrders += rollup.getTotalOrders();
+        addRevenue(rollup.getTotalRevenue());
+
+        int offset = (rollup.getDate().getDayOfWeek().getValue() - 1) * HOURS;
+        for (Map.Entry<Integer, Integer> entry : rollup.getHourlyOrderCounts().entrySet()) {
+            hourly[entry.getKey()] += entry.getValue();
+            weekdayHourly[offset + entry.getKey()] += entry.getValue();
+        }
+
+        addDistribution(AGE_GROUPS, ageGroups, rollup.getAgeDistribution());
+        addDistribution(GENDER_GROUPS, genderGroups, rollup.getGenderDistribution());
+
+        rollup.getMenuOrderCounts().forEach((menu, count) ->
+            rollupMenus.computeIfAbsent(menu, MenuCounter::new).count += count);
+    }
+
+    /**
+     * 기간 통계 생성
+     */
+    public OrderStatistics toOrderStatistics(int popularMenuLimit) {
+        BigDecimal totalRevenue = totalRevenue();
+        return OrderStatistics.builder()
+            .totalOrders(totalOrders)
+            .totalRevenue(totalRevenue.longValue())
+            .averageOrderValue(totalOrders > 0 ? totalRevenue.doubleValue() / totalOrders : 0.0)
+            .peakHour(peakHour(hourly))
+            .popularMenus(topMenus(popularMenuLimit))
+            .customerAgeDistribution(toDistribution(AGE_GROUPS, ageGroups))
+            .customerGenderDistribution(toDistribution(GENDER_GROUPS, genderGroups))
+            .weekdayHourlyOrders(toWeekdayHourly(weekdayHourly))
+            .build();
+    }
+
+    /**
+     * 하루치 주문으로 일별 집계 생성
+     */
+    public OrderDailyRollup toDailyRollup(Long storeId, LocalDate date) {
+        Map<Integer, Integer> hourlyOrderCounts = new HashMap<>();
+        for (int hour = 0; hour < HOURS; hour++) {
+            if (hourly[hour] > 0) {
+                hourlyOrderCounts.put(hour, hourly[hour]);
+            }
+        }
+
+        Map<String, Integer> menuOrderCounts = new HashMap<>();
+        for (MenuCounter counter : menus.values()) {
+            if (counter.name != null) {
+                menuOrderCounts.merge(counter.name, counter.count, Integer::sum);
+            }
+        }
+
+        return OrderDailyRollup.builder()
+            .storeId(storeId)
+            .date(date)
+            .totalOrders(totalOrders)
+            .totalRevenue(totalRevenue())
+            .hourlyOrderCounts(hourlyOrderCounts)
+            .menuOrderCounts(menuOrderCounts)
+            .ageDistribution(toDistribution(AGE_GROUPS, ageGroups))
+            .genderDistribution(toDistribution(GENDER_GROUPS, genderGroups))
+            .build();
+    }
+
+    /**
+     * 주문 수가 가장 많은 시간 (동률이면 이른 시간, 주문이 없으면 12시)
+     */
+    static int peakHour(int[] hourlyCounts) {
+        int peak = -1;
+        int max = 0;
+        for (int hour = 0; hour < hourlyCounts.length; hour++) {
+            if (hourlyCounts[hour] > max) {
+                max = hourlyCounts[hour];
+                peak = hour;
+            }
+        }
+        return peak >= 0 ? peak : DEFAULT_PEAK_HOUR;
+    }
+
+    /**
+     * 0이 아닌 항목만 순서대로 담은 분포
+     */
+    static Map<String, Integer> toDistribution(String[] labels, int[] counts) {
+        Map<String, Integer> distribution = new LinkedHashMap<>();
+        for (int i = 0; i < labels.length; i++) {
+            if (counts[i] > 0) {
+                distribution.put(labels[i], counts[i]);
+            }
+        }
+        return distribution;
+    }
+
+    /**
+     * 항목명별 건수를 해당 인덱스에 합산 (알 수 없는 항목명은 마지막 '미분류'로 합산)
+     */
+    private static void addDistribution(String[] labels, int[] counts, Map<String, Integer> distribution) {
+        distribution.forEach((label, count) -> {
+            int index = labels.length - 1;
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i].equals(label)) {
+                    index = i;
+                    break;
+                }
+            }
+            counts[index] += count;
+        });
+    }
+
+    /**
+     * 요일(월~일)별 24시간 주문 수
+     */
+    static Map<String, List<Integer>> toWeekdayHourly(int[] counts) {
+        Map<String, List<Integer>> heatmap = new LinkedHashMap<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            List<Integer> hours = new ArrayList<>(HOURS);
+            int offset = (day.getValue() - 1) * HOURS;
+            for (int hour = 0; hour < HOURS; hour++) {
+                hours.add(counts[offset + hour]);
+            }
+            heatmap.put(day.name(), hours);
+        }
+        return heatmap;
+    }
+
+    /**
+     * 나이를 연령대 인덱스로 변환
+     */
+    static int ageGroupIndex(Integer age) {
+        if (age == null) return UNKNOWN_AGE;
+        if (age < 20) return 0;
+        if (age < 30) return 1;
+        if (age < 40) return 2;
+        if (age < 50) return 3;
+        if (age < 60) return 4;
+        return 5;
+    }
+
+    /**
+     * 성별을 인덱스로 변환
+     */
+    static int genderGroupIndex(String gender) {
+        if (gender == null || gender.isBlank()) return UNKNOWN_GENDER;
+        return switch (gender.trim().toUpperCase()) {
+            case "M", "MALE", "남", "남성" -> 0;
+            case "F", "FEMALE", "여", "여성" -> 1;
+            default -> UNKNOWN_GENDER;
+        };
+    }
+
+    /**
+     * 정수 금액은 long으로 합산하고, 소수점이 있거나 범위를 넘는 금액만 BigDecimal로 합산
+     */
+    private void addRevenue(BigDecimal amount) {
+        if (amount == null) {
+            return;
+        }
+        if (amount.scale() <= 0 && amount.precision() - amount.scale() < 18) {
+            revenue += amount.longValue();
+        } else {
+            fractionalRevenue = fractionalRevenue.add(amount);
+        }
+    }
+
+    private BigDecimal totalRevenue() {
+        return fractionalRevenue.add(BigDecimal.valueOf(revenue));
+    }
+
+    /**
+     * 주문 수 상위 메뉴 (크기 k의 최소 힙으로 선택)
+     */
+    private List<String> topMenus(int limit) {
+        if (limit <= 0 || (menus.isEmpty() && rollupMenus.isEmpty())) {
+            return new ArrayList<>();
+        }
+
+        PriorityQueue<MenuCounter> heap = new PriorityQueue<>(limit + 1, Comparator.comparingInt(counter -> counter.count));
+        offerAll(heap, menus.values(), limit);
+        offerAll(heap, rollupMenus.values(), limit);
+
+        List<String> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            result.add(heap.poll().name);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private static void offerAll(PriorityQueue<MenuCounter> heap, Iterable<MenuCounter> counters, int limit) {
+        for (MenuCounter counter : counters) {
+            heap.offer(counter);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+    }
+
+    private static final class MenuCounter {
+        private final String name;
+        private int count;
+
+        private MenuCounter(String name) {
+            this.name = name;
+        }
+    }
+}
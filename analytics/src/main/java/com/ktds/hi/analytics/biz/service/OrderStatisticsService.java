@@ -0,0 +1,99 @@
+package com.ktds.hi.analytics.biz.service;
+
+import com.ktds.hi.analytics.biz.domain.OrderDailyRollup;
+import com.ktds.hi.analytics.biz.domain.OrderStatistics;
+import com.ktds.hi.analytics.biz.usecase.out.OrderDataPort;
+import com.ktds.hi.analytics.biz.usecase.out.OrderRollupPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 통계 서비스 클래스
+ * 마감된 날은 저장된 일별 집계를 합산하고, 오늘(마감 전)만 주문 서비스에서 실시간으로 조회
+ * 저장된 집계가 없는 마감일은 한 번에 조회하여 일별 집계로 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderStatisticsService {
+
+    private static final int POPULAR_MENU_LIMIT = 4;
+
+    private final OrderRollupPort orderRollupPort;
+    private final OrderDataPort orderDataPort;
+
+    /**
+     * 기간별 주문 통계 조회
+     */
+    public OrderStatistics getOrderStatistics(Long storeId, LocalDate startDate, LocalDate endDate) {
+        try {
+            List<OrderDailyRollup> rollups = new ArrayList<>();
+            LocalDate today = LocalDate.now();
+            LocalDate closedEndDate = endDate.isBefore(today) ? endDate : today.minusDays(1);
+
+            // 1. 마감된 날: 저장된 일별 집계 사용, 없는 날만 조회 후 저장
+            if (!startDate.isAfter(closedEndDate)) {
+                rollups.addAll(findOrFinalizeClosedDays(storeId, startDate, closedEndDate));
+            }
+
+            // 2. 오늘: 실시간 조회 (저장하지 않음)
+            if (!endDate.isBefore(today) && !startDate.isAfter(today)) {
+                rollups.addAll(orderDataPort.getDailyOrderRollups(storeId, today, today));
+            }
+
+            return merge(rollups);
+
+        } catch (Exception e) {
+            log.warn("일별 주문 집계 기반 통계 조회 실패, 기간 전체 조회로 대체: storeId={}", storeId, e);
+            return orderDataPort.getOrderStatistics(storeId, startDate, endDate);
+        }
+    }
+
+    private List<OrderDailyRollup> findOrFinalizeClosedDays(Long storeId, LocalDate startDate, LocalDate endDate) {
+        List<OrderDailyRollup> stored = orderRollupPort.findDailyRollups(storeId, startDate, endDate);
+        Set<LocalDate> storedDates = stored.stream().map(OrderDailyRollup::getDate).collect(Collectors.toSet());
+
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (!storedDates.contains(date)) {
+                firstMissing = firstMissing == null ? date : firstMissing;
+                lastMissing = date;
+            }
+        }
+        if (firstMissing == null) {
+            return stored;
+        }
+
+        // 저장되지 않은 구간을 한 번에 조회하여 빠진 날만 저장
+        List<OrderDailyRollup> finalized = orderDataPort.getDailyOrderRollups(storeId, firstMissing, lastMissing)
+                .stream()
+                .filter(rollup -> !storedDates.contains(rollup.getDate()))
+                .collect(Collectors.toList());
+        try {
+            orderRollupPort.saveDailyRollups(finalized);
+            log.info("일별 주문 집계 마감: storeId={}, days={}", storeId, finalized.size());
+        } catch (RuntimeException e) {
+            // 다른 요청이 같은 날을 먼저 저장한 경우 등, 조회 결과는 그대로 사용
+            log.warn("일별 주문 집계 저장 실패: storeId={}, period={} ~ {}", storeId, firstMissing, lastMissing, e);
+        }
+
+        List<OrderDailyRollup> result = new ArrayList<>(stored);
+        result.addAll(finalized);
+        return result;
+    }
+
+    /**
+     * 일별 집계 합산 (주문 목록 집계와 같은 카운터로 합산)
+     */
+    private OrderStatistics merge(List<OrderDailyRollup> rollups) {
+        return OrderAggregator.ofRollups(rollups).toOrderStatistics(POPULAR_MENU_LIMIT);
+    }
+}
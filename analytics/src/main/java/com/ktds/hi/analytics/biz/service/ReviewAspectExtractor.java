@@ -0,0 +1,108 @@
+package com.ktds.hi.analytics.biz.service;
+
+import com.ktds.hi.analytics.biz.domain.AspectMention;
+import com.ktds.hi.analytics.biz.domain.ReviewAspect;
+import com.ktds.hi.analytics.biz.domain.SentimentType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 리뷰 항목 언급 추출 서비스 클래스
+ * 리뷰를 절 단위로 나누고, 절마다 항목 사전을 Aho-Corasick 매처로 검색한 뒤 사전 기반 감정 분류로 항목 감정을 판단
+ * 예: "맛있는데 가격이 비싸요" → 맛(긍정), 가격(부정)
+ */
+@Service
+@RequiredArgsConstructor
+public class ReviewAspectExtractor {
+
+    /**
+     * 항목 사전 (공백 제거 기준)
+     * 다른 단어 안에 흔히 포함되는 표현(예: "시간이"의 "간이")은 오탐을 막기 위해 제외
+     */
+    private static final Map<ReviewAspect, List<String>> ASPECT_TERMS = Map.of(
+        ReviewAspect.TASTE, List.of("맛", "음식", "요리", "메뉴", "짜요", "짜서", "짜고", "짭", "싱거", "싱겁",
+            "달아", "느끼", "비린", "비려", "식감", "신선", "양념", "소스", "국물", "육즙", "jmt"),
+        ReviewAspect.SERVICE, List.of("서비스", "친절", "직원", "사장님", "알바", "응대", "태도", "서빙", "점원", "매니저"),
+        ReviewAspect.PRICE, List.of("가격", "가성비", "비싸", "저렴", "싸고", "싸요", "값", "금액", "비용", "할인"),
+        ReviewAspect.WAIT, List.of("대기", "웨이팅", "기다", "오래걸", "늦게나", "느리", "느려", "빨리나", "금방나", "회전"),
+        ReviewAspect.CLEANLINESS, List.of("청결", "깨끗", "위생", "더럽", "지저분", "화장실", "벌레", "머리카락", "냄새")
+    );
+
+    /**
+     * 절 구분 (문장부호, 대조 연결어 뒤)
+     * 연결어는 앞 절에 남겨 "좋은데", "맛있지만"처럼 감정 표현이 잘리지 않도록 함
+     */
+    private static final Pattern CLAUSE_DELIMITER =
+        Pattern.compile("[.!?~,\\n]+|(?<=지만|는데|은데|근데|그러나|다만)");
+
+    private static final AhoCorasickMatcher<ReviewAspect> MATCHER = buildMatcher();
+
+    private final LexiconSentimentClassifier lexiconSentimentClassifier;
+
+    /**
+     * 리뷰 항목 언급 추출 (같은 항목, 같은 감정은 한 번만)
+     */
+    public List<AspectMention> extract(String content) {
+        if (content == null || content.isBlank()) {
+            return List.of();
+        }
+
+        Set<AspectMention> mentions = new LinkedHashSet<>();
+        Set<ReviewAspect> undecided = EnumSet.noneOf(ReviewAspect.class);
+        for (String clause : CLAUSE_DELIMITER.split(content)) {
+            if (clause.isBlank()) {
+                continue;
+            }
+            Set<ReviewAspect> aspects = EnumSet.noneOf(ReviewAspect.class);
+            for (AhoCorasickMatcher.Match<ReviewAspect> match : MATCHER.findLongestMatches(normalize(clause))) {
+                aspects.add(match.value());
+            }
+            SentimentType sentiment = lexiconSentimentClassifier.classify(clause).sentiment();
+
+            // 항목 없이 감정만 있는 절은 바로 앞 절의 감정 없는 항목에 적용 (예: "웨이팅 1시간... 최악")
+            if (aspects.isEmpty()) {
+                addAll(mentions, undecided, sentiment);
+                undecided.clear();
+                continue;
+            }
+
+            // 감정이 정해지지 않은 앞 절의 항목은 중립으로 확정 (예: "음식은 평범. 가격이 비싸요" → 맛(중립))
+            addAll(mentions, undecided, SentimentType.NEUTRAL);
+            undecided.clear();
+            if (sentiment == SentimentType.NEUTRAL) {
+                undecided.addAll(aspects);
+            } else {
+                addAll(mentions, aspects, sentiment);
+            }
+        }
+        addAll(mentions, undecided, SentimentType.NEUTRAL);
+        return new ArrayList<>(mentions);
+    }
+
+    private static void addAll(Set<AspectMention> mentions, Set<ReviewAspect> aspects, SentimentType sentiment) {
+        aspects.forEach(aspect -> mentions.add(new AspectMention(aspect, sentiment)));
+    }
+
+    private static AhoCorasickMatcher<ReviewAspect> buildMatcher() {
+        Map<String, ReviewAspect> dictionary = new HashMap<>();
+        ASPECT_TERMS.forEach((aspect, terms) -> terms.forEach(term -> dictionary.put(normalize(term), aspect)));
+        return AhoCorasickMatcher.of(dictionary);
+    }
+
+    /**
+     * 공백 제거 및 소문자 변환
+     */
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+    }
+}
@@ -0,0 +1,155 @@
+package com.ktds.hi.analytics.biz.service;
+
+import com.ktds.hi.analytics.biz.domain.AspectDailyCount;
+import com.ktds.hi.analytics.biz.domain.Review;
+import com.ktds.hi.analytics.biz.domain.ReviewAspect;
+import com.ktds.hi.analytics.biz.domain.ReviewAspectMentions;
+import com.ktds.hi.analytics.biz.domain.ReviewSentiment;
+import com.ktds.hi.analytics.biz.domain.SentimentType;
+import com.ktds.hi.analytics.biz.usecase.in.ReviewAspectUseCase;
+import com.ktds.hi.analytics.biz.usecase.out.ReviewAspectPort;
+import com.ktds.hi.analytics.infra.dto.AspectSummaryResponse;
+import com.ktds.hi.analytics.infra.dto.ReviewAspectResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 리뷰 항목 언급 분석 서비스 클래스
+ * 리뷰마다 항목(맛, 서비스, 가격, 대기시간, 청결)별 언급과 감정을 추출하여 매장 일별 언급 수에 누적
+ * 조회는 누적된 일별 언급 수만 합산하므로 리뷰 재조회나 AI 호출이 없음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewAspectService implements ReviewAspectUseCase {
+
+    private static final ZoneId STORE_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final ReviewAspectExtractor reviewAspectExtractor;
+    private final ReviewAspectPort reviewAspectPort;
+
+    @Override
+    public void recordReview(Long storeId, Long reviewId, String content, LocalDateTime createdAt) {
+        if (storeId == null || reviewId == null || content == null || content.isBlank()) {
+            log.debug("리뷰 항목 언급 집계 생략 (리뷰 정보 부족): storeId={}, reviewId={}", storeId, reviewId);
+            return;
+        }
+
+        try {
+            boolean recorded = reviewAspectPort.record(toMentions(storeId, reviewId, content, createdAt));
+            log.debug("리뷰 항목 언급 집계: storeId={}, reviewId={}, recorded={}", storeId, reviewId, recorded);
+        } catch (Exception e) {
+            // 같은 리뷰가 동시에 반영된 경우 포함, 다음 매장 분석 갱신 때 다시 반영됨
+            log.warn("리뷰 항목 언급 집계 실패: storeId={}, reviewId={}", storeId, reviewId, e);
+        }
+    }
+
+    /**
+     * 조회한 리뷰 목록 중 집계되지 않았거나 내용이 바뀐 리뷰만 반영
+     */
+    public void recordReviews(Long storeId, List<Review> reviews) {
+        List<Long> reviewIds = reviews.stream()
+            .map(Review::getReviewId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+        if (reviewIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, String> recordedHashes = reviewAspectPort.findContentHashes(reviewIds);
+        int recorded = 0;
+        for (Review review : reviews) {
+            if (review.getReviewId() == null || review.getContent() == null || review.getContent().isBlank()) {
+                continue;
+            }
+            String contentHash = ReviewSentiment.fingerprint(review.getContent());
+            if (contentHash.equals(recordedHashes.get(review.getReviewId()))) {
+                continue;
+            }
+            recordReview(storeId, review.getReviewId(), review.getContent(), review.getCreatedAt());
+            recorded++;
+        }
+
+        if (recorded > 0) {
+            log.info("리뷰 항목 언급 집계 반영: storeId={}, 전체={}, 반영={}", storeId, reviewIds.size(), recorded);
+        }
+    }
+
+    @Override
+    public void removeReview(Long reviewId) {
+        if (reviewId == null) {
+            return;
+        }
+
+        try {
+            boolean removed = reviewAspectPort.remove(reviewId);
+            log.debug("리뷰 항목 언급 집계 제외: reviewId={}, removed={}", reviewId, removed);
+        } catch (Exception e) {
+            log.warn("리뷰 항목 언급 집계 제외 실패: reviewId={}", reviewId, e);
+        }
+    }
+
+    @Override
+    public ReviewAspectResponse getAspectBreakdown(Long storeId, int days) {
+        LocalDate endDate = LocalDate.now(STORE_ZONE);
+        LocalDate startDate = endDate.minusDays(Math.max(days, 1) - 1L);
+
+        // 항목, 감정별 합산
+        Map<ReviewAspect, Map<SentimentType, Integer>> totals = new EnumMap<>(ReviewAspect.class);
+        for (AspectDailyCount count : reviewAspectPort.findDailyCounts(storeId, startDate, endDate)) {
+            totals.computeIfAbsent(count.getAspect(), aspect -> new EnumMap<>(SentimentType.class))
+                .merge(count.getSentiment(), count.getMentionCount(), Integer::sum);
+        }
+
+        List<AspectSummaryResponse> aspects = new ArrayList<>();
+        int totalMentions = 0;
+        for (ReviewAspect aspect : ReviewAspect.values()) {
+            Map<SentimentType, Integer> counts = totals.getOrDefault(aspect, Map.of());
+            int positive = counts.getOrDefault(SentimentType.POSITIVE, 0);
+            int negative = counts.getOrDefault(SentimentType.NEGATIVE, 0);
+            int neutral = counts.getOrDefault(SentimentType.NEUTRAL, 0);
+            int total = positive + negative + neutral;
+            totalMentions += total;
+
+            aspects.add(AspectSummaryResponse.builder()
+                .aspect(aspect)
+                .aspectName(aspect.getDescription())
+                .totalCount(total)
+                .positiveCount(positive)
+                .negativeCount(negative)
+                .neutralCount(neutral)
+                .negativeRate(total == 0 ? 0.0 : Math.floor((double) negative / total * 1000) / 10.0)
+                .build());
+        }
+
+        return ReviewAspectResponse.builder()
+            .storeId(storeId)
+            .startDate(startDate)
+            .endDate(endDate)
+            .totalMentions(totalMentions)
+            .aspects(aspects)
+            .build();
+    }
+
+    private ReviewAspectMentions toMentions(Long storeId, Long reviewId, String content, LocalDateTime createdAt) {
+        return ReviewAspectMentions.builder()
+            .reviewId(reviewId)
+            .storeId(storeId)
+            .reviewDate((createdAt != null ? createdAt : LocalDateTime.now(STORE_ZONE)).toLocalDate())
+            .contentHash(ReviewSentiment.fingerprint(content))
+            .mentions(reviewAspectExtractor.extract(content))
+            .build();
+    }
+}
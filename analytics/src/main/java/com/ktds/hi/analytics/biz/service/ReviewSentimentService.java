@@ -0,0 +1,178 @@
+package com.ktds.hi.analytics.biz.service;
+
+import com.ktds.hi.analytics.biz.domain.Review;
+import com.ktds.hi.analytics.biz.domain.ReviewSentiment;
+import com.ktds.hi.analytics.biz.domain.ReviewSentimentCount;
+import com.ktds.hi.analytics.biz.domain.SentimentType;
+import com.ktds.hi.analytics.biz.usecase.out.AIServicePort;
+import com.ktds.hi.analytics.biz.usecase.out.ReviewSentimentPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 리뷰 감정 분석 서비스 클래스
+ * 리뷰별 감정 분석 결과를 저장해 두고, 처음 보거나 수정된 리뷰만 분석
+ * 사전 기반 분류로 확신도가 높은 리뷰는 바로 확정하고, 애매한 리뷰만 AI로 분석
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewSentimentService {
+
+    private final AIServicePort aiServicePort;
+    private final ReviewSentimentPort reviewSentimentPort;
+    private final LexiconSentimentClassifier lexiconClassifier;
+
+    /**
+     * 매장 리뷰 감정 집계
+     * 저장된 결과 중 내용 지문이 일치하는 리뷰는 재사용하고 나머지만 AI로 분석
+     */
+    public ReviewSentimentCount analyzeStoreSentiments(Long storeId, List<Review> reviews) {
+        List<Review> validReviews = reviews.stream()
+            .filter(review -> review.getContent() != null && !review.getContent().trim().isEmpty())
+            .collect(Collectors.toList());
+
+        if (validReviews.isEmpty()) {
+            return new ReviewSentimentCount(0, 0, 0);
+        }
+
+        // 1. 저장된 분석 결과 조회
+        List<Long> reviewIds = validReviews.stream()
+            .map(Review::getReviewId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+
+        Map<Long, ReviewSentiment> stored = reviewSentimentPort.findByReviewIds(reviewIds).stream()
+            .collect(Collectors.toMap(ReviewSentiment::getReviewId, Function.identity()));
+
+        // 2. 재사용 가능한 결과와 분석이 필요한 리뷰 분리
+        Map<SentimentType, Integer> counts = new EnumMap<>(SentimentType.class);
+        List<Review> pendingReviews = new ArrayList<>();
+        List<String> pendingHashes = new ArrayList<>();
+
+        for (Review review : validReviews) {
+            String contentHash = ReviewSentiment.fingerprint(review.getContent());
+            ReviewSentiment existing = review.getReviewId() != null ? stored.get(review.getReviewId()) : null;
+
+            if (existing != null && existing.matches(contentHash)) {
+                counts.merge(existing.getSentiment(), 1, Integer::sum);
+            } else {
+                pendingReviews.add(review);
+                pendingHashes.add(contentHash);
+            }
+        }
+
+        log.info("리뷰 감정 분석 대상 선별: storeId={}, 전체={}, 재사용={}, 신규/수정={}",
+            storeId, validReviews.size(), validReviews.size() - pendingReviews.size(), pendingReviews.size());
+
+        // 3. 신규/수정 리뷰만 분석 후 저장
+        if (!pendingReviews.isEmpty()) {
+            classifyPendingReviews(storeId, pendingReviews, pendingHashes, counts);
+        }
+
+        return new ReviewSentimentCount(
+            counts.getOrDefault(SentimentType.POSITIVE, 0),
+            counts.getOrDefault(SentimentType.NEGATIVE, 0),
+            counts.getOrDefault(SentimentType.NEUTRAL, 0));
+    }
+
+    private void classifyPendingReviews(Long storeId, List<Review> pendingReviews, List<String> pendingHashes,
+                                        Map<SentimentType, Integer> counts) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ReviewSentiment> toSave = new ArrayList<>();
+
+        // 1. 사전 기반 분류로 확신도가 높은 리뷰는 바로 확정
+        List<Review> ambiguousReviews = new ArrayList<>();
+        List<String> ambiguousHashes = new ArrayList<>();
+        for (int i = 0; i < pendingReviews.size(); i++) {
+            Review review = pendingReviews.get(i);
+            LexiconSentimentClassifier.Result lexicon = lexiconClassifier.classify(review.getContent());
+
+            if (lexicon.confident()) {
+                counts.merge(lexicon.sentiment(), 1, Integer::sum);
+                addResult(toSave, storeId, review, pendingHashes.get(i), lexicon.sentiment(), now);
+            } else {
+                ambiguousReviews.add(review);
+                ambiguousHashes.add(pendingHashes.get(i));
+            }
+        }
+
+        log.info("사전 기반 감정 분류: storeId={}, 확정={}, AI 분석 대상={}",
+            storeId, pendingReviews.size() - ambiguousReviews.size(), ambiguousReviews.size());
+
+        // 2. 애매한 리뷰만 AI로 분석
+        if (!ambiguousReviews.isEmpty()) {
+            classifyWithAI(storeId, ambiguousReviews, ambiguousHashes, counts, toSave, now);
+        }
+
+        try {
+            reviewSentimentPort.saveAll(toSave);
+        } catch (Exception e) {
+            log.warn("리뷰 감정 분석 결과 저장 실패: storeId={}, count={}", storeId, toSave.size(), e);
+        }
+    }
+
+    private void classifyWithAI(Long storeId, List<Review> reviews, List<String> hashes,
+                                Map<SentimentType, Integer> counts, List<ReviewSentiment> toSave, LocalDateTime now) {
+        List<SentimentType> sentiments;
+        try {
+            sentiments = aiServicePort.analyzeSentiments(reviews.stream()
+                .map(Review::getContent)
+                .collect(Collectors.toList()));
+        } catch (Exception e) {
+            log.error("리뷰 감정 분석 실패, 미분석 리뷰는 사전 기반 분류로 집계: storeId={}, count={}",
+                storeId, reviews.size(), e);
+            addFallbackCounts(reviews, counts);
+            return;
+        }
+
+        for (int i = 0; i < reviews.size(); i++) {
+            Review review = reviews.get(i);
+            SentimentType sentiment = i < sentiments.size() ? sentiments.get(i) : null;
+
+            if (sentiment == null) {
+                // 판별되지 않은 리뷰는 저장하지 않고 다음 분석 때 다시 시도
+                counts.merge(SentimentType.NEUTRAL, 1, Integer::sum);
+                continue;
+            }
+
+            counts.merge(sentiment, 1, Integer::sum);
+            addResult(toSave, storeId, review, hashes.get(i), sentiment, now);
+        }
+    }
+
+    private void addResult(List<ReviewSentiment> toSave, Long storeId, Review review, String contentHash,
+                           SentimentType sentiment, LocalDateTime now) {
+        if (review.getReviewId() == null) {
+            return;
+        }
+        toSave.add(ReviewSentiment.builder()
+            .reviewId(review.getReviewId())
+            .storeId(storeId)
+            .contentHash(contentHash)
+            .sentiment(sentiment)
+            .analyzedAt(now)
+            .build());
+    }
+
+    /**
+     * AI 분석 실패 시 사전 기반 분류 결과(확신도와 무관)로 집계
+     * 대체 결과는 저장하지 않고 다음 분석 때 AI로 다시 시도
+     */
+    private void addFallbackCounts(List<Review> reviews, Map<SentimentType, Integer> counts) {
+        for (Review review : reviews) {
+            counts.merge(lexiconClassifier.classify(review.getContent()).sentiment(), 1, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.ktds.hi.analytics.biz.service;
+
+import com.ktds.hi.analytics.biz.domain.LlmPriority;
+import com.ktds.hi.analytics.biz.usecase.in.AnalyticsUseCase;
+import com.ktds.hi.analytics.biz.usecase.in.StoreRefreshUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장 분석 갱신 서비스 클래스
+ * 리뷰 이벤트로 갱신이 필요한 매장을 표시해 두고, 마지막 이벤트 후 대기 시간(debounce)이 지나면 매장당 한 번만 갱신
+ * 이벤트가 계속 들어와도 첫 이벤트 후 최대 대기 시간이 지나면 갱신
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreRefreshService implements StoreRefreshUseCase {
+
+    private final AnalyticsUseCase analyticsUseCase;
+
+    @Qualifier("storeRefreshExecutor")
+    private final ThreadPoolTaskExecutor storeRefreshExecutor;
+
+    /**
+     * 갱신 대기 중인 매장별 이벤트 현황
+     */
+    private final Map<Long, DirtyStore> dirtyStores = new ConcurrentHashMap<>();
+
+    /**
+     * 갱신 실행 중인 매장 (같은 매장을 동시에 갱신하지 않도록 실행이 끝날 때까지 다음 대상에서 제외)
+     */
+    private final Set<Long> refreshingStores = ConcurrentHashMap.newKeySet();
+
+    @Value("${analytics.refresh.enabled:true}")
+    private boolean enabled;
+
+    @Value("${analytics.refresh.debounce-ms:30000}")
+    private long debounceMillis;
+
+    @Value("${analytics.refresh.max-delay-ms:300000}")
+    private long maxDelayMillis;
+
+    @Value("${analytics.refresh.max-stores-per-run:50}")
+    private int maxStoresPerRun;
+
+    @Override
+    public void markStoreDirty(Long storeId, String eventType) {
+        if (!enabled || storeId == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        DirtyStore state = dirtyStores.merge(storeId, new DirtyStore(now, now, 1),
+            (previous, next) -> new DirtyStore(previous.firstEventAt(), now, previous.events() + 1));
+        log.debug("매장 분석 갱신 예약: storeId={}, eventType={}, events={}", storeId, eventType, state.events());
+    }
+
+    /**
+     * 대기 시간이 지난 매장 분석 데이터 갱신
+     * 갱신은 전용 스레드 풀에 제출만 하고 기다리지 않아 다른 주기 작업의 스케줄러 스레드를 막지 않음
+     */
+    @Scheduled(fixedDelayString = "${analytics.refresh.poll-interval-ms:5000}")
+    public void refreshDirtyStores() {
+        if (!enabled || dirtyStores.isEmpty()) {
+            return;
+        }
+
+        int capacity = maxStoresPerRun - refreshingStores.size();
+        if (capacity <= 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Map<Long, DirtyStore> dueStores = new LinkedHashMap<>();
+        for (Map.Entry<Long, DirtyStore> entry : dirtyStores.entrySet()) {
+            if (dueStores.size() >= capacity) {
+                break;
+            }
+            DirtyStore state = entry.getValue();
+            boolean due = now - state.lastEventAt() >= debounceMillis || now - state.firstEventAt() >= maxDelayMillis;
+
+            // 확인 후 새 이벤트가 들어왔으면 다음 실행에서 다시 판단
+            if (due && refreshingStores.add(entry.getKey())) {
+                if (!dirtyStores.remove(entry.getKey(), state)) {
+                    refreshingStores.remove(entry.getKey());
+                    continue;
+                }
+                dueStores.put(entry.getKey(), state);
+                log.debug("매장 분석 갱신 대상: storeId={}, events={}", entry.getKey(), state.events());
+            }
+        }
+        if (dueStores.isEmpty()) {
+            return;
+        }
+
+        log.info("리뷰 이벤트 기반 매장 분석 갱신 시작: stores={}, pending={}", dueStores.size(), dirtyStores.size());
+        dueStores.forEach((storeId, state) -> {
+            try {
+                storeRefreshExecutor.execute(() -> refreshStore(storeId));
+            } catch (TaskRejectedException e) {
+                // 이벤트 현황을 되돌려 다음 실행에서 다시 처리
+                refreshingStores.remove(storeId);
+                dirtyStores.merge(storeId, state, (current, rejected) -> new DirtyStore(
+                    rejected.firstEventAt(), current.lastEventAt(), rejected.events() + current.events()));
+                log.warn("매장 분석 갱신 접수 거부: storeId={}", storeId);
+            }
+        });
+    }
+
+    private void refreshStore(Long storeId) {
+        try {
+            LlmPriority.runWith(LlmPriority.BACKGROUND, () -> analyticsUseCase.refreshStoreAnalytics(storeId));
+        } catch (Exception e) {
+            log.warn("매장 분석 갱신 실패: storeId={}", storeId, e);
+        } finally {
+            refreshingStores.remove(storeId);
+        }
+    }
+
+    private record DirtyStore(long firstEventAt, long lastEventAt, int events) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.ktds.hi.analytics.biz.usecase.in;
+
+import com.ktds.hi.analytics.infra.dto.AiAnalysisJobResponse;
+import com.ktds.hi.analytics.infra.dto.AiAnalysisRequest;
+
+/**
+ * AI 분석 작업 UseCase 인터페이스
+ * 매장 AI 분석을 비동기 작업으로 접수하고 상태를 조회하기 위한 입력 포트
+ */
+public interface AiAnalysisJobUseCase {
+
+    /**
+     * AI 분석 작업 접수
+     * 같은 매장의 작업이 이미 진행 중이면 해당 작업을 반환
+     */
+    AiAnalysisJobResponse submitAIAnalysis(Long storeId, AiAnalysisRequest request);
+
+    /**
+     * AI 분석 작업 상태 및 결과 조회
+     */
+    AiAnalysisJobResponse getAIAnalysisJob(Long storeId, String jobId);
+}
@@ -0,0 +1,13 @@
+package com.ktds.hi.analytics.biz.usecase.in;
+
+/**
+ * AI 피드백 자동 갱신 UseCase 인터페이스
+ * 매장별 신규 리뷰 유입을 기록하여 AI 피드백 백그라운드 갱신 우선순위를 정하기 위한 입력 포트
+ */
+public interface AiFeedbackRefreshUseCase {
+
+    /**
+     * 매장 신규 리뷰 유입 기록
+     */
+    void recordNewReview(Long storeId);
+}
@@ -1,9 +1,11 @@
 package com.ktds.hi.analytics.biz.usecase.in;
 
+import com.ktds.hi.analytics.biz.usecase.out.ActionPlanStreamListener;
 import com.ktds.hi.analytics.infra.dto.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 분석 서비스 UseCase 인터페이스
@@ -15,6 +17,11 @@ public interface AnalyticsUseCase {
      * 매장 분석 데이터 조회
      */
     StoreAnalyticsResponse getStoreAnalytics(Long storeId);
+
+    /**
+     * 여러 매장 분석 데이터 일괄 조회
+     */
+    StoreAnalyticsBatchResponse getStoreAnalyticsBatch(List<Long> storeIds);
     
     /**
      * AI 피드백 상세 조회
@@ -42,6 +49,11 @@ public interface AnalyticsUseCase {
      */
     ReviewAnalysisResponse getReviewAnalysis(Long storeId, int days);
 
+    /**
+     * 리뷰 변경 이후 매장 분석 데이터 및 리뷰 감정 집계 갱신
+     */
+    void refreshStoreAnalytics(Long storeId);
+
     /**
      * AI 리뷰 분석 및 실행계획 생성
      */
@@ -52,6 +64,16 @@ public interface AnalyticsUseCase {
      */
     List<String> generateActionPlansFromFeedback(ActionPlanCreateRequest request,Long feedbackId);
 
+    /**
+     * AI 피드백 기반 실행계획 스트리밍 생성
+     * 별도 스레드에서 생성하며, 생성 중인 토큰과 완성된 실행계획을 리스너로 전달하고 완성된 실행계획은 즉시 저장
+     * 생성 스레드 풀이 가득 차면 AnalysisBusyException 발생
+     *
+     * @return 생성된 전체 실행계획
+     */
+    CompletableFuture<List<String>> streamActionPlansFromFeedback(ActionPlanCreateRequest request, Long feedbackId,
+                                                                  ActionPlanStreamListener listener);
+
 
     // 🔥 고객용 긍정 리뷰 조회 API 추가
     CustomerPositiveReviewResponse getCustomerPositiveReview(Long storeId);
@@ -0,0 +1,27 @@
+package com.ktds.hi.analytics.biz.usecase.in;
+
+import com.ktds.hi.analytics.infra.dto.ReviewAspectResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 항목 언급 분석 UseCase 인터페이스
+ * 맛, 서비스, 가격, 대기시간, 청결 항목별 언급 수를 리뷰 단위로 누적하고 조회하기 위한 입력 포트
+ */
+public interface ReviewAspectUseCase {
+
+    /**
+     * 리뷰 항목 언급 집계 반영
+     */
+    void recordReview(Long storeId, Long reviewId, String content, LocalDateTime createdAt);
+
+    /**
+     * 삭제된 리뷰 항목 언급 집계 제외
+     */
+    void removeReview(Long reviewId);
+
+    /**
+     * 최근 N일 매장 리뷰 항목별 언급 조회
+     */
+    ReviewAspectResponse getAspectBreakdown(Long storeId, int days);
+}
@@ -0,0 +1,14 @@
+package com.ktds.hi.analytics.biz.usecase.in;
+
+/**
+ * 매장 분석 갱신 UseCase 인터페이스
+ * 리뷰 변경 이벤트를 받아 매장 분석 데이터 갱신을 예약하기 위한 입력 포트
+ */
+public interface StoreRefreshUseCase {
+
+    /**
+     * 매장 분석 데이터 갱신 필요 표시
+     * 짧은 시간 안에 들어온 같은 매장의 이벤트는 한 번의 갱신으로 합쳐짐
+     */
+    void markStoreDirty(Long storeId, String eventType);
+}
@@ -30,12 +30,28 @@ public interface AIServicePort {
      * @return 감정 타입별 개수 맵
      */
     Map<SentimentType, Integer> analyzeBulkSentiments(List<String> reviews);
+
+    /**
+     * 리뷰별 감정 분석
+     * 입력 순서와 동일한 순서로 리뷰별 감정을 반환하며,
+     * 모델 응답에서 판별되지 않은 리뷰는 null로 반환
+     *
+     * @param reviews 분석할 리뷰 목록
+     * @return 리뷰별 감정 목록
+     */
+    List<SentimentType> analyzeSentiments(List<String> reviews);
     
     /**
      * 실행 계획 생성
      */
     List<String> generateActionPlan(List<String> actionPlanSelect, AiFeedback feedback);
 
+    /**
+     * 실행 계획 스트리밍 생성
+     * 모델 응답 토큰과 완성된 실행계획을 도착하는 즉시 리스너로 전달하고, 전체 실행계획 목록을 반환
+     */
+    List<String> streamActionPlan(List<String> actionPlanSelect, AiFeedback feedback, ActionPlanStreamListener listener);
+
     // 🔥 고객용 긍정 리뷰 요약 생성 메서드 추가
     /**
      * 긍정적인 리뷰만을 분석하여 고객용 요약 생성
@@ -0,0 +1,21 @@
+package com.ktds.hi.analytics.biz.usecase.out;
+
+/**
+ * 실행계획 스트리밍 리스너 인터페이스
+ * AI가 생성하는 실행계획을 토큰 단위 및 완성된 계획 단위로 전달받기 위한 콜백
+ */
+public interface ActionPlanStreamListener {
+
+    /**
+     * 모델 응답 토큰 수신
+     */
+    void onToken(String token);
+
+    /**
+     * 실행계획 한 건 완성
+     *
+     * @param index 선택한 개선포인트 기준 순번 (0부터 시작)
+     * @param plan 완성된 실행계획 내용
+     */
+    void onPlanCompleted(int index, String plan);
+}
@@ -0,0 +1,46 @@
+package com.ktds.hi.analytics.biz.usecase.out;
+
+import com.ktds.hi.analytics.biz.domain.AnalysisJob;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * AI 분석 작업 포트 인터페이스
+ * 비동기 분석 작업 상태 저장 및 매장별 중복 실행 방지를 위한 출력 포트
+ */
+public interface AnalysisJobPort {
+
+    /**
+     * 작업 상태 저장
+     */
+    void saveJob(AnalysisJob job);
+
+    /**
+     * 작업 조회
+     */
+    Optional<AnalysisJob> findJob(String jobId);
+
+    /**
+     * 작업 삭제
+     */
+    void deleteJob(String jobId);
+
+    /**
+     * 매장의 실행 중 작업으로 등록
+     * 이미 실행 중인 작업이 있으면 등록하지 않고 해당 작업 ID를 반환
+     */
+    Optional<String> claimStore(Long storeId, String jobId, Duration ttl);
+
+    /**
+     * 매장의 실행 중 작업 등록 연장 (해당 작업이 등록된 경우에만)
+     *
+     * @return 등록이 유지되어 연장했는지 여부
+     */
+    boolean renewStore(Long storeId, String jobId, Duration ttl);
+
+    /**
+     * 매장의 실행 중 작업 등록 해제 (해당 작업이 등록된 경우에만)
+     */
+    void releaseStore(Long storeId, String jobId);
+}
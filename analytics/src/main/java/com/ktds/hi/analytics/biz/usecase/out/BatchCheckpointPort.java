@@ -0,0 +1,59 @@
+package com.ktds.hi.analytics.biz.usecase.out;
+
+import com.ktds.hi.analytics.biz.domain.BatchRun;
+import com.ktds.hi.analytics.biz.domain.BatchRunStatus;
+import com.ktds.hi.analytics.biz.domain.BatchTask;
+import com.ktds.hi.analytics.biz.domain.BatchTaskStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 야간 일괄 분석 체크포인트 포트 인터페이스
+ * 일괄 분석 진행 상태를 저장하여 중단된 실행을 이어서 처리하기 위한 출력 포트
+ */
+public interface BatchCheckpointPort {
+
+    /**
+     * 기준일 실행 조회
+     */
+    Optional<BatchRun> findRun(LocalDate batchDate);
+
+    /**
+     * 가장 최근의 끝나지 않은 실행 조회
+     */
+    Optional<BatchRun> findLatestUnfinishedRun();
+
+    /**
+     * 실행과 매장별 작업 생성 (매장 목록을 파티션 수만큼 연속 구간으로 나눔)
+     * 같은 기준일의 실행이 이미 있으면 예외 발생
+     */
+    BatchRun createRun(LocalDate batchDate, List<Long> storeIds, int partitions);
+
+    /**
+     * 생존 시각이 기준보다 오래된(실행 인스턴스가 중단된) 실행을 가져옴
+     */
+    boolean takeOverRun(Long runId, LocalDateTime staleBefore);
+
+    /**
+     * 실행 생존 시각 갱신
+     */
+    void heartbeat(Long runId);
+
+    /**
+     * 처리되지 않은 작업 조회
+     */
+    List<BatchTask> findPendingTasks(Long runId);
+
+    /**
+     * 작업 처리 결과 기록
+     */
+    void updateTask(Long runId, Long storeId, BatchTaskStatus status, String errorMessage);
+
+    /**
+     * 실행 종료 (작업 상태별 건수 집계)
+     */
+    BatchRun finishRun(Long runId, BatchRunStatus status);
+}
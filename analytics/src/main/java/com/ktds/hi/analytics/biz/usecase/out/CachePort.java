@@ -1,7 +1,11 @@
 package com.ktds.hi.analytics.biz.usecase.out;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * 캐시 포트 인터페이스
@@ -18,7 +22,34 @@ public interface CachePort {
      * 캐시에 데이터 저장
      */
     void putAnalyticsCache(String key, Object value, Duration ttl);
+
+    /**
+     * 캐시 조회 후 없으면 계산하여 저장
+     * 같은 키에 대한 동시 요청은 인스턴스 내부와 전체 인스턴스에서 한 요청만 계산하고 나머지는 그 결과를 사용
+     *
+     * @param ttlPolicy 계산 결과별 캐시 유지 시간
+     */
+    <T> T getOrCompute(String key, Class<T> type, Function<? super T, Duration> ttlPolicy, Supplier<T> loader);
+
+    /**
+     * 캐시 조회 후 없으면 계산하여 고정 TTL로 저장
+     */
+    default <T> T getOrCompute(String key, Class<T> type, Duration ttl, Supplier<T> loader) {
+        return getOrCompute(key, type, value -> ttl, loader);
+    }
     
+    /**
+     * 캐시 값을 지우지 않고 다시 계산하여 덮어씀
+     * 계산하는 동안에도 조회 요청은 기존 캐시 값을 그대로 사용
+     */
+    <T> T recompute(String key, Class<T> type, Function<? super T, Duration> ttlPolicy, Supplier<T> loader);
+
+    /**
+     * getOrCompute로 저장한 캐시 여러 건을 한 번의 요청으로 조회
+     * 갱신 시점이 지나지 않은 값만 반환하며, 없거나 갱신이 필요한 키는 결과에서 제외
+     */
+    <T> Map<String, T> getAllFresh(List<String> keys, Class<T> type);
+
     /**
      * 캐시 무효화
      */
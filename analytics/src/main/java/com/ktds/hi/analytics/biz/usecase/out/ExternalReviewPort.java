@@ -1,5 +1,7 @@
 package com.ktds.hi.analytics.biz.usecase.out;
 
+import com.ktds.hi.analytics.biz.domain.Review;
+
 import java.util.List;
 
 /**
@@ -18,6 +20,11 @@ public interface ExternalReviewPort {
      */
     List<String> getRecentReviews(Long storeId, Integer days);
 
+    /**
+     * 최근 리뷰 조회 (리뷰 ID, 평점 등 메타데이터 포함)
+     */
+    List<Review> findRecentReviews(Long storeId, Integer days);
+
     // 🔥 긍정적인 리뷰만 조회하는 메서드 추가
     /**
      * 긍정적인 리뷰만 조회 (평점 4점 이상)
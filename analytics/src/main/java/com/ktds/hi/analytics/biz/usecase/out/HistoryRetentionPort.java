@@ -0,0 +1,25 @@
+package com.ktds.hi.analytics.biz.usecase.out;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분석 이력 보존 포트 인터페이스
+ * 보존 기간이 지난 분석 데이터, AI 피드백 이력 정리 기능 정의
+ */
+public interface HistoryRetentionPort {
+
+    /**
+     * 최신 분석 데이터, 최신 AI 피드백이 지정되지 않은 매장을 이력의 최신 행으로 지정
+     */
+    int backfillLatest();
+
+    /**
+     * 기준 시각 이전 분석 이력 삭제 (현재 분석 데이터 제외, 최대 limit건)
+     */
+    int deleteAnalyticsHistoryBefore(LocalDateTime before, int limit);
+
+    /**
+     * 기준 시각 이전 AI 피드백 이력 삭제 (현재 피드백, 실행 계획이 참조하는 피드백 제외, 최대 limit건)
+     */
+    int deleteAiFeedbackHistoryBefore(LocalDateTime before, int limit);
+}
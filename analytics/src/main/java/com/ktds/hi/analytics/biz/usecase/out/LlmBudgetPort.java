@@ -0,0 +1,28 @@
+package com.ktds.hi.analytics.biz.usecase.out;
+
+import com.ktds.hi.analytics.biz.domain.LlmBudgetResult;
+
+import java.time.Duration;
+
+/**
+ * AI 호출 예산 포트 인터페이스
+ * 전체 인스턴스가 공유하는 시간 구간별 AI 호출 예산을 관리하기 위한 출력 포트
+ */
+public interface LlmBudgetPort {
+
+    /**
+     * 현재 구간의 예산에서 호출 수 차감
+     * 차감 후 한도를 넘으면 차감하지 않고 EXHAUSTED, 예산 저장소 오류로 확인할 수 없으면 UNAVAILABLE 반환
+     */
+    LlmBudgetResult tryConsume(String budgetName, int calls, int limit, Duration window);
+
+    /**
+     * 현재 구간의 사용량 보정 (미리 차감한 호출 수와 실제 호출 수의 차이, 음수이면 반환)
+     */
+    void adjust(String budgetName, int calls, Duration window);
+
+    /**
+     * 현재 구간에서 사용한 호출 수
+     */
+    int used(String budgetName, Duration window);
+}
@@ -1,8 +1,10 @@
 package com.ktds.hi.analytics.biz.usecase.out;
 
+import com.ktds.hi.analytics.biz.domain.OrderDailyRollup;
 import com.ktds.hi.analytics.biz.domain.OrderStatistics;
 
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * 주문 데이터 포트 인터페이스
@@ -14,6 +16,12 @@ public interface OrderDataPort {
      * 기간별 주문 통계 조회
      */
     OrderStatistics getOrderStatistics(Long storeId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 기간 내 일별 주문 집계 조회 (주문이 없는 날 포함, 날짜 순)
+     * 주문 서비스 조회에 실패하면 예외 발생
+     */
+    List<OrderDailyRollup> getDailyOrderRollups(Long storeId, LocalDate startDate, LocalDate endDate);
     
     /**
      * 실시간 주문 현황 조회
@@ -0,0 +1,23 @@
+package com.ktds.hi.analytics.biz.usecase.out;
+
+import com.ktds.hi.analytics.biz.domain.OrderDailyRollup;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일별 주문 집계 포트 인터페이스
+ * Clean Architecture의 출력 포트 정의
+ */
+public interface OrderRollupPort {
+
+    /**
+     * 기간 내 저장된 일별 주문 집계 조회
+     */
+    List<OrderDailyRollup> findDailyRollups(Long storeId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 마감된 날의 일별 주문 집계 저장
+     */
+    void saveDailyRollups(List<OrderDailyRollup> rollups);
+}
@@ -0,0 +1,41 @@
+package com.ktds.hi.analytics.biz.usecase.out;
+
+import com.ktds.hi.analytics.biz.domain.AspectDailyCount;
+import com.ktds.hi.analytics.biz.domain.ReviewAspectMentions;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리뷰 항목 언급 집계 포트 인터페이스
+ * Clean Architecture의 출력 포트 정의
+ */
+public interface ReviewAspectPort {
+
+    /**
+     * 리뷰 ID 목록으로 집계된 리뷰의 내용 지문 조회
+     */
+    Map<Long, String> findContentHashes(Collection<Long> reviewIds);
+
+    /**
+     * 리뷰 항목 언급을 일별 집계에 반영
+     * 같은 내용으로 이미 집계된 리뷰는 건너뛰고, 내용이 바뀐 리뷰는 이전 언급을 빼고 다시 반영
+     *
+     * @return 집계에 반영했는지 여부
+     */
+    boolean record(ReviewAspectMentions mentions);
+
+    /**
+     * 리뷰 항목 언급을 일별 집계에서 제외
+     *
+     * @return 집계에서 제외했는지 여부
+     */
+    boolean remove(Long reviewId);
+
+    /**
+     * 기간별 매장 일별 항목 언급 수 조회
+     */
+    List<AspectDailyCount> findDailyCounts(Long storeId, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,23 @@
+package com.ktds.hi.analytics.biz.usecase.out;
+
+import com.ktds.hi.analytics.biz.domain.ReviewSentiment;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 리뷰별 감정 분석 결과 포트 인터페이스
+ * Clean Architecture의 출력 포트 정의
+ */
+public interface ReviewSentimentPort {
+
+    /**
+     * 리뷰 ID 목록으로 저장된 감정 분석 결과 조회
+     */
+    List<ReviewSentiment> findByReviewIds(Collection<Long> reviewIds);
+
+    /**
+     * 감정 분석 결과 일괄 저장 (리뷰 ID 기준 덮어쓰기)
+     */
+    void saveAll(List<ReviewSentiment> sentiments);
+}
@@ -0,0 +1,15 @@
+package com.ktds.hi.analytics.biz.usecase.out;
+
+import java.util.List;
+
+/**
+ * 매장 목록 포트 인터페이스
+ * 매장 서비스에서 전체 매장 ID를 조회하기 위한 출력 포트
+ */
+public interface StoreDirectoryPort {
+
+    /**
+     * 전체 매장 ID 조회
+     */
+    List<Long> findAllStoreIds();
+}
@@ -0,0 +1,224 @@
+package com.ktds.hi.analytics.infra.config;
+
+import com.ktds.hi.analytics.biz.domain.LlmCallMeter;
+import com.ktds.hi.analytics.biz.domain.LlmPriority;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 분석 서비스 스레드 풀 설정 클래스
+ * 외부 AI 호출 등 분석 작업용 스레드 풀을 구성
+ */
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${ai-api.openai.max-parallel-chunks:4}")
+    private int maxParallelChunks;
+
+    @Value("${analytics.ai-analysis.job-workers:4}")
+    private int aiAnalysisJobWorkers;
+
+    @Value("${analytics.ai-analysis.job-queue-capacity:50}")
+    private int aiAnalysisJobQueueCapacity;
+
+    @Value("${analytics.ai-analysis.stage-parallelism:0}")
+    private int aiAnalysisStageParallelism;
+
+    @Value("${analytics.batch.parallelism:8}")
+    private int analyticsBatchParallelism;
+
+    @Value("${analytics.refresh.parallelism:4}")
+    private int storeRefreshParallelism;
+
+    @Value("${analytics.refresh.max-stores-per-run:50}")
+    private int storeRefreshQueueCapacity;
+
+    @Value("${analytics.ai-refresh.parallelism:2}")
+    private int aiFeedbackRefreshParallelism;
+
+    @Value("${analytics.nightly-batch.workers:4}")
+    private int nightlyBatchWorkers;
+
+    /**
+     * 리뷰 청크 단위 AI 호출용 스레드 풀
+     * 풀 크기로 동시 호출 수(fan-out)를 제한
+     */
+    @Bean("llmTaskExecutor")
+    public ThreadPoolTaskExecutor llmTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxParallelChunks);
+        executor.setMaxPoolSize(maxParallelChunks);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("llm-");
+        executor.setTaskDecorator(llmContextPropagator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 비동기 AI 분석 작업용 스레드 풀
+     * 큐가 가득 차면 작업 접수를 거부
+     */
+    @Bean("aiAnalysisJobExecutor")
+    public ThreadPoolTaskExecutor aiAnalysisJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(aiAnalysisJobWorkers);
+        executor.setMaxPoolSize(aiAnalysisJobWorkers);
+        executor.setQueueCapacity(aiAnalysisJobQueueCapacity);
+        executor.setThreadNamePrefix("ai-analysis-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * AI 분석 단계(피드백, 감정 집계) 동시 실행용 스레드 풀
+     * 단계 안의 청크 호출은 llmTaskExecutor에서 실행되므로 별도 풀로 구성
+     * 크기를 지정하지 않으면 분석을 실행하는 풀(분석 작업, 피드백 자동 갱신, 야간 일괄 분석)이 모두 동시에 실행해도
+     * 분석마다 두 단계가 바로 시작되도록 계산하고, 그 밖의 호출에 대비해 같은 크기의 대기 큐를 둠
+     */
+    @Bean("aiAnalysisStageExecutor")
+    public ThreadPoolTaskExecutor aiAnalysisStageExecutor() {
+        int poolSize = aiAnalysisStageParallelism > 0
+            ? aiAnalysisStageParallelism
+            : 2 * (aiAnalysisJobWorkers + aiFeedbackRefreshParallelism + nightlyBatchWorkers);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize);
+        executor.setThreadNamePrefix("ai-analysis-stage-");
+        executor.setTaskDecorator(llmContextPropagator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 실행계획 스트리밍(SSE) 생성용 스레드 풀
+     * 요청 스레드를 반환한 뒤 AI 응답 스트림 수신과 이벤트 전송을 수행
+     */
+    @Bean("actionPlanStreamExecutor")
+    public ThreadPoolTaskExecutor actionPlanStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("action-plan-stream-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 분석 캐시 백그라운드 갱신용 스레드 풀
+     * 갱신 시점이 지난 캐시 값을 반환한 뒤 새 값을 계산
+     */
+    @Bean("cacheRefreshExecutor")
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 여러 매장 분석 일괄 조회 시 캐시 미스 매장 병렬 계산용 스레드 풀
+     * 큐가 가득 차면 요청 스레드에서 직접 계산
+     */
+    @Bean("analyticsBatchExecutor")
+    public ThreadPoolTaskExecutor analyticsBatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(analyticsBatchParallelism);
+        executor.setMaxPoolSize(analyticsBatchParallelism);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("analytics-batch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 리뷰 이벤트 기반 매장 분석 갱신용 스레드 풀
+     * 사용자 요청용 풀과 분리해 백그라운드 갱신이 요청 처리 스레드를 점유하지 않도록 구성
+     */
+    @Bean("storeRefreshExecutor")
+    public ThreadPoolTaskExecutor storeRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(storeRefreshParallelism);
+        executor.setMaxPoolSize(storeRefreshParallelism);
+        executor.setQueueCapacity(storeRefreshQueueCapacity);
+        executor.setThreadNamePrefix("store-refresh-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * AI 피드백 자동 갱신용 스레드 풀
+     * 동시 실행 수만큼만 제출하므로 대기 큐 없이 구성
+     */
+    @Bean("aiFeedbackRefreshExecutor")
+    public ThreadPoolTaskExecutor aiFeedbackRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(aiFeedbackRefreshParallelism);
+        executor.setMaxPoolSize(aiFeedbackRefreshParallelism);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("ai-feedback-refresh-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 야간 일괄 분석용 스레드 풀
+     * 실행 관리 스레드 1개와 워커 스레드로 구성, 종료 시 진행 중인 매장은 다음 시작 때 이어서 처리
+     */
+    @Bean("nightlyBatchExecutor")
+    public ThreadPoolTaskExecutor nightlyBatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(nightlyBatchWorkers + 1);
+        executor.setMaxPoolSize(nightlyBatchWorkers + 1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("nightly-batch-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 외부 리뷰 페이지 조회용 가상 스레드 실행기
+     * 요청마다 스레드 풀을 만들지 않고 애플리케이션 전체에서 공유 (동시 페이지 수는 호출하는 쪽에서 제한)
+     */
+    @Bean(name = "reviewFetchExecutor", destroyMethod = "shutdown")
+    public ExecutorService reviewFetchExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("review-fetch-", 0).factory());
+    }
+
+    /**
+     * 작업을 제출한 스레드의 AI 호출 우선순위와 호출 계량기를 작업 스레드로 전달
+     */
+    private TaskDecorator llmContextPropagator() {
+        return task -> {
+            LlmPriority priority = LlmPriority.current();
+            LlmCallMeter meter = LlmCallMeter.current();
+            return () -> LlmCallMeter.runWith(meter, () -> LlmPriority.runWith(priority, task));
+        };
+    }
+}
@@ -5,12 +5,8 @@ import com.fasterxml.jackson.databind.type.CollectionType;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.cache.RedisCacheConfiguration;
-import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
@@ -19,16 +15,11 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
-import java.time.Duration;
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Redis 설정 클래스
- * Redis 연결 및 캐시 설정을 담당
+ * Redis 연결 및 RedisTemplate 설정을 담당
  */
 @Configuration
-@EnableCaching
 @RequiredArgsConstructor
 public class RedisConfig {
     
@@ -79,38 +70,4 @@ public class RedisConfig {
         
         return template;
     }
-    
-    /**
-     * 캐시 매니저 설정
-     */
-    @Bean
-    public CacheManager cacheManager() {
-        RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofHours(1)) // 기본 TTL 1시간
-                .serializeKeysWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair
-                        .fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair
-                        .fromSerializer(new GenericJackson2JsonRedisSerializer(objectMapper)))
-                .disableCachingNullValues();
-        
-        // 캐시별 TTL 설정
-        Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
-        
-        // 매장 분석 데이터 - 1시간
-        cacheConfigurations.put("storeAnalytics", defaultConfig.entryTtl(Duration.ofHours(1)));
-        
-        // AI 피드백 - 6시간
-        cacheConfigurations.put("aiFeedback", defaultConfig.entryTtl(Duration.ofHours(6)));
-        
-        // 실행 계획 - 30분
-        cacheConfigurations.put("actionPlans", defaultConfig.entryTtl(Duration.ofMinutes(30)));
-        
-        // 통계 데이터 - 24시간
-        cacheConfigurations.put("statistics", defaultConfig.entryTtl(Duration.ofHours(24)));
-        
-        return RedisCacheManager.builder(redisConnectionFactory())
-                .cacheDefaults(defaultConfig)
-                .withInitialCacheConfigurations(cacheConfigurations)
-                .build();
-    }
 }
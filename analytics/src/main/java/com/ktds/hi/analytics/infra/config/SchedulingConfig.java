@@ -0,0 +1,13 @@
+package com.ktds.hi.analytics.infra.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스
+ * 리뷰 이벤트 기반 매장 분석 갱신 등 주기 작업 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
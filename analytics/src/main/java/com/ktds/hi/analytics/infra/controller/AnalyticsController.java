@@ -1,7 +1,11 @@
 package com.ktds.hi.analytics.infra.controller;
 
+import com.ktds.hi.analytics.biz.usecase.in.AiAnalysisJobUseCase;
 import com.ktds.hi.analytics.biz.usecase.in.AnalyticsUseCase;
+import com.ktds.hi.analytics.biz.usecase.in.ReviewAspectUseCase;
+import com.ktds.hi.analytics.biz.usecase.out.ActionPlanStreamListener;
 import com.ktds.hi.analytics.infra.dto.*;
+import com.ktds.hi.analytics.infra.exception.AnalysisBusyException;
 import com.ktds.hi.common.dto.ErrorResponse;
 import com.ktds.hi.common.dto.SuccessResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,11 +16,14 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.constraints.*;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -31,7 +38,11 @@ import java.util.List;
 @Tag(name = "Analytics API", description = "매장 분석 및 AI 피드백 API")
 public class AnalyticsController {
     
+    private static final long ACTION_PLAN_STREAM_TIMEOUT_MILLIS = 180_000L;
+
     private final AnalyticsUseCase analyticsUseCase;
+    private final AiAnalysisJobUseCase aiAnalysisJobUseCase;
+    private final ReviewAspectUseCase reviewAspectUseCase;
     
     /**
      * 매장 분석 데이터 조회
@@ -49,6 +60,22 @@ public class AnalyticsController {
         return ResponseEntity.ok(SuccessResponse.of(response, "매장 분석 데이터 조회 성공"));
     }
     
+    /**
+     * 여러 매장 분석 데이터 일괄 조회
+     */
+    @Operation(summary = "여러 매장 분석 데이터 일괄 조회", description = "여러 매장의 분석 데이터를 한 번에 조회합니다.")
+    @GetMapping("/stores")
+    public ResponseEntity<SuccessResponse<StoreAnalyticsBatchResponse>> getStoreAnalyticsBatch(
+            @Parameter(description = "매장 ID 목록 (쉼표로 구분)", required = true)
+            @RequestParam @NotEmpty List<Long> storeIds) {
+        
+        log.info("매장 분석 데이터 일괄 조회 요청: storeIds={}", storeIds);
+        
+        StoreAnalyticsBatchResponse response = analyticsUseCase.getStoreAnalyticsBatch(storeIds);
+        
+        return ResponseEntity.ok(SuccessResponse.of(response, "매장 분석 데이터 일괄 조회 성공"));
+    }
+    
     /**
      * AI 피드백 상세 조회
      */
@@ -141,13 +168,33 @@ public class AnalyticsController {
         return ResponseEntity.ok(SuccessResponse.of(response, "리뷰 분석 조회 성공"));
     }
 
+    /**
+     * 리뷰 항목별 언급 조회
+     */
+    @Operation(summary = "리뷰 항목별 언급 조회", description = "매장 리뷰의 맛, 서비스, 가격, 대기시간, 청결 항목별 언급 수와 감정을 조회합니다.")
+    @GetMapping("/stores/{storeId}/review-aspects")
+    public ResponseEntity<SuccessResponse<ReviewAspectResponse>> getReviewAspects(
+            @Parameter(description = "매장 ID", required = true)
+            @PathVariable @NotNull Long storeId,
+
+            @Parameter(description = "조회할 최근 일수")
+            @RequestParam(name = "days", defaultValue = "30") @Min(1) @Max(365) int days) {
+
+        log.info("리뷰 항목별 언급 조회 요청: storeId={}, days={}", storeId, days);
+
+        ReviewAspectResponse response = reviewAspectUseCase.getAspectBreakdown(storeId, days);
+
+        return ResponseEntity.ok(SuccessResponse.of(response, "리뷰 항목별 언급 조회 성공"));
+    }
+
 
     /**
-     * AI 리뷰 분석 및 실행계획 생성
+     * AI 리뷰 분석 작업 접수
+     * 분석은 비동기로 수행되며, 반환된 작업 ID로 상태와 결과를 조회
      */
-    @Operation(summary = "AI 리뷰 분석", description = "매장 리뷰를 AI로 분석하고 실행계획을 생성합니다.")
+    @Operation(summary = "AI 리뷰 분석", description = "매장 리뷰 AI 분석 작업을 접수하고 작업 ID를 반환합니다.")
     @PostMapping("/stores/{storeId}/ai-analysis")
-    public ResponseEntity<SuccessResponse<AiAnalysisResponse>> generateAIAnalysis(
+    public ResponseEntity<SuccessResponse<AiAnalysisJobResponse>> generateAIAnalysis(
         @Parameter(description = "매장 ID", required = true)
         @PathVariable @NotNull Long storeId,
 
@@ -160,9 +207,26 @@ public class AnalyticsController {
             request = AiAnalysisRequest.builder().build();
         }
 
-        AiAnalysisResponse response = analyticsUseCase.generateAIAnalysis(storeId, request);
+        AiAnalysisJobResponse response = aiAnalysisJobUseCase.submitAIAnalysis(storeId, request);
+
+        return ResponseEntity.accepted().body(SuccessResponse.of(response, "AI 분석 요청 접수"));
+    }
+
+    /**
+     * AI 리뷰 분석 작업 조회
+     */
+    @Operation(summary = "AI 리뷰 분석 작업 조회", description = "AI 분석 작업의 상태와 완료된 분석 결과를 조회합니다.")
+    @GetMapping("/stores/{storeId}/ai-analysis/jobs/{jobId}")
+    public ResponseEntity<SuccessResponse<AiAnalysisJobResponse>> getAIAnalysisJob(
+        @Parameter(description = "매장 ID", required = true)
+        @PathVariable @NotNull Long storeId,
+
+        @Parameter(description = "작업 ID", required = true)
+        @PathVariable @NotBlank String jobId) {
+
+        AiAnalysisJobResponse response = aiAnalysisJobUseCase.getAIAnalysisJob(storeId, jobId);
 
-        return ResponseEntity.ok(SuccessResponse.of(response, "AI 분석 완료"));
+        return ResponseEntity.ok(SuccessResponse.of(response, "AI 분석 작업 조회 성공"));
     }
 
     /**
@@ -185,4 +249,69 @@ public class AnalyticsController {
 
         return ResponseEntity.ok(SuccessResponse.of("실행계획 생성 완료"));
     }
+
+    /**
+     * AI 피드백 기반 실행계획 스트리밍 생성
+     * token 이벤트로 모델 응답을, plan 이벤트로 완성된 실행계획을, done 이벤트로 전체 결과를 전송
+     */
+    @Operation(summary = "실행계획 스트리밍 생성", description = "AI 피드백을 기반으로 실행계획을 생성하며 진행 상황을 SSE로 전송합니다.")
+    @PostMapping(value = "/ai-feedback/{feedbackId}/action-plans/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamActionPlans(
+        @Parameter(description = "AI 피드백 ID", required = true)
+        @PathVariable @NotNull Long feedbackId,
+        @RequestBody ActionPlanCreateRequest request) {
+
+        // validation 체크
+        if (request.getActionPlanSelect() == null || request.getActionPlanSelect().isEmpty()) {
+            throw new IllegalArgumentException("실행계획을 생성하려면 개선포인트를 선택해주세요.");
+        }
+
+        SseEmitter emitter = new SseEmitter(ACTION_PLAN_STREAM_TIMEOUT_MILLIS);
+        List<String> actionPlanSelect = request.getActionPlanSelect();
+
+        try {
+            analyticsUseCase.streamActionPlansFromFeedback(request, feedbackId,
+                    new ActionPlanStreamListener() {
+                        @Override
+                        public void onToken(String token) {
+                            sendEvent(emitter, "token", token);
+                        }
+
+                        @Override
+                        public void onPlanCompleted(int index, String plan) {
+                            sendEvent(emitter, "plan", ActionPlanStreamItem.builder()
+                                .index(index)
+                                .title(index < actionPlanSelect.size() ? actionPlanSelect.get(index) : null)
+                                .content(plan)
+                                .build());
+                        }
+                    })
+                .whenComplete((actionPlans, e) -> {
+                    if (e == null) {
+                        sendEvent(emitter, "done", actionPlans);
+                        emitter.complete();
+                        return;
+                    }
+                    log.error("실행계획 스트리밍 생성 실패: feedbackId={}", feedbackId, e);
+                    sendEvent(emitter, "error", "실행계획 생성에 실패했습니다. 다시 시도해주세요.");
+                    emitter.completeWithError(e);
+                });
+
+        } catch (AnalysisBusyException e) {
+            // 생성 스레드 풀 포화: 스트림을 열어 둔 채 끝나지 않도록 오류 이벤트 전송 후 종료
+            sendEvent(emitter, "error", e.getMessage());
+            emitter.complete();
+        }
+
+        return emitter;
+    }
+
+    private void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결이 끊겨도 생성과 저장은 계속 진행
+            log.debug("SSE 이벤트 전송 실패: event={}", name);
+        }
+    }
 }
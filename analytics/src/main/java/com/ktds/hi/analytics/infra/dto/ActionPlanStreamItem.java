@@ -0,0 +1,21 @@
+package com.ktds.hi.analytics.infra.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 실행계획 스트리밍 항목 DTO
+ * 생성이 완료된 실행계획 한 건을 SSE로 전달
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActionPlanStreamItem {
+
+    private Integer index;
+    private String title;
+    private String content;
+}
@@ -0,0 +1,42 @@
+package com.ktds.hi.analytics.infra.dto;
+
+import com.ktds.hi.analytics.biz.domain.AnalysisJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 분석 작업 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "AI 리뷰 분석 작업")
+public class AiAnalysisJobResponse {
+
+	@Schema(description = "작업 ID")
+	private String jobId;
+
+	@Schema(description = "매장 ID")
+	private Long storeId;
+
+	@Schema(description = "작업 상태")
+	private AnalysisJobStatus status;
+
+	@Schema(description = "요청 시간")
+	private LocalDateTime requestedAt;
+
+	@Schema(description = "완료 시간")
+	private LocalDateTime completedAt;
+
+	@Schema(description = "실패 사유")
+	private String errorMessage;
+
+	@Schema(description = "분석 결과 (완료 시)")
+	private AiAnalysisResponse result;
+}
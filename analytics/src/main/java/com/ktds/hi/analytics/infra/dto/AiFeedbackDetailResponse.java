@@ -14,7 +14,7 @@ import java.util.stream.Collectors;
  * AI 피드백 상세 응답 DTO
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class AiFeedbackDetailResponse {
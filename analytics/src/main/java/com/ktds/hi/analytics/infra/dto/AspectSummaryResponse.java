@@ -0,0 +1,25 @@
+package com.ktds.hi.analytics.infra.dto;
+
+import com.ktds.hi.analytics.biz.domain.ReviewAspect;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 항목별 리뷰 언급 요약 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AspectSummaryResponse {
+
+    private ReviewAspect aspect;
+    private String aspectName;
+    private Integer totalCount;
+    private Integer positiveCount;
+    private Integer negativeCount;
+    private Integer neutralCount;
+    private Double negativeRate;
+}
@@ -0,0 +1,25 @@
+package com.ktds.hi.analytics.infra.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 리뷰 항목별 언급 분석 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewAspectResponse {
+
+    private Long storeId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Integer totalMentions;
+    private List<AspectSummaryResponse> aspects;
+}
@@ -0,0 +1,22 @@
+package com.ktds.hi.analytics.infra.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 매장 분석 일괄 조회 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreAnalyticsBatchResponse {
+
+    private List<StoreAnalyticsResponse> stores;
+    private List<Long> failedStoreIds;
+    private Integer cacheHitCount;
+}
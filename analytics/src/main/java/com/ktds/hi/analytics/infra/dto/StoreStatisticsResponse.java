@@ -28,6 +28,8 @@ public class StoreStatisticsResponse {
     private Integer peakHour;
     private List<String> popularMenus;
     private Map<String, Integer> customerAgeDistribution;
+    private Map<String, Integer> customerGenderDistribution;
+    private Map<String, List<Integer>> weekdayHourlyOrders;
     private Integer totalReviews;
     private LocalDateTime generatedAt;
 }
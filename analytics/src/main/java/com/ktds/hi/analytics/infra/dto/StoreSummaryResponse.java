@@ -0,0 +1,18 @@
+package com.ktds.hi.analytics.infra.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매장 서비스 매장 목록 응답 DTO (분석에 필요한 항목만 수신)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreSummaryResponse {
+	private Long storeId;
+	private String storeName;
+}
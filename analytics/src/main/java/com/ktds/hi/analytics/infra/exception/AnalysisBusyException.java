@@ -0,0 +1,11 @@
+package com.ktds.hi.analytics.infra.exception;
+
+/**
+ * 요청이 많아 분석 작업을 접수하지 못할 때 발생하는 예외
+ */
+public class AnalysisBusyException extends AnalyticsException {
+
+    public AnalysisBusyException(String message) {
+        super("AI_ANALYSIS_BUSY", message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.ktds.hi.analytics.infra.exception;
+
+/**
+ * AI 분석 작업을 찾을 수 없을 때 발생하는 예외
+ */
+public class AnalysisJobNotFoundException extends AnalyticsException {
+
+    public AnalysisJobNotFoundException(String jobId) {
+        super("AI_ANALYSIS_JOB_NOT_FOUND", "AI 분석 작업을 찾을 수 없습니다: " + jobId);
+    }
+}
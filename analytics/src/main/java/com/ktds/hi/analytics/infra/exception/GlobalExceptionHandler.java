@@ -77,6 +77,40 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * AI 분석 작업 없음 예외 처리
+     */
+    @ExceptionHandler(AnalysisJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse<Void>> handleAnalysisJobNotFoundException(
+        AnalysisJobNotFoundException ex, HttpServletRequest request) {
+        log.error("Analysis Job Not Found: {}", ex.getMessage());
+
+        ErrorResponse<Void> errorResponse = ErrorResponse.of(
+            ex.getErrorCode(),
+            ex.getMessage(),
+            request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    /**
+     * AI 분석 요청 과다 예외 처리
+     */
+    @ExceptionHandler(AnalysisBusyException.class)
+    public ResponseEntity<ErrorResponse<Void>> handleAnalysisBusyException(
+        AnalysisBusyException ex, HttpServletRequest request) {
+        log.warn("Analysis Busy: {}", ex.getMessage());
+
+        ErrorResponse<Void> errorResponse = ErrorResponse.of(
+            ex.getErrorCode(),
+            ex.getMessage(),
+            request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(errorResponse);
+    }
+
     /**
      * AI 서비스 예외 처리
      */
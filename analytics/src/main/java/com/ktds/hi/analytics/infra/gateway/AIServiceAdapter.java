@@ -8,31 +8,46 @@ import com.azure.ai.textanalytics.models.AnalyzeSentimentResult;
 import com.azure.ai.textanalytics.models.DocumentSentiment;
 import com.azure.ai.textanalytics.models.TextSentiment;
 import com.azure.core.credential.AzureKeyCredential;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ktds.hi.analytics.biz.domain.AiFeedback;
 import com.ktds.hi.analytics.biz.domain.SentimentType;
+import com.ktds.hi.analytics.biz.service.LexiconSentimentClassifier;
 import com.ktds.hi.analytics.biz.usecase.out.AIServicePort;
+import com.ktds.hi.analytics.biz.usecase.out.ActionPlanStreamListener;
+import com.ktds.hi.analytics.biz.usecase.out.CachePort;
 
 import jakarta.annotation.PostConstruct;
 import lombok.Data;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -41,21 +56,40 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class AIServiceAdapter implements AIServicePort {
 
-
-    @Value("${ai-api.openai.base-url:https://api.openai.com/v1}")
-    private String openaiBaseUrl;
+    private static final long CHUNK_TIMEOUT_SECONDS = 120;
+    private static final int MAX_MERGED_POINTS = 5;
+    private static final double OPENAI_TEMPERATURE = 0.7;
+    private static final int MAX_ACTION_PLANS = 5;
 
     @Value("${ai-api.openai.api-key}")
     private String openaiApiKey;
 
     @Value("${ai-api.openai.model:gpt-4o-mini}")
     private String openaiModel;
+
+    @Value("${ai-api.openai.chunk-token-budget:3000}")
+    private int chunkTokenBudget;
+
+    @Value("${ai-api.openai.map-batch-size:40}")
+    private int mapBatchSize;
+
+    @Value("${ai-api.openai.map-cache-ttl-hours:168}")
+    private long mapCacheTtlHours;
+
+    private final CachePort cachePort;
+    private final LlmResponseCache llmResponseCache;
+    private final OpenAIClient openAIClient;
+    private final LexiconSentimentClassifier lexiconClassifier;
+    private final ReviewPromptCompactor promptCompactor;
+
+    @Qualifier("llmTaskExecutor")
+    private final ThreadPoolTaskExecutor llmTaskExecutor;
     
     private TextAnalyticsClient textAnalyticsClient;
 
-    private RestTemplate restTemplate;
     private ObjectMapper objectMapper;
     
     @PostConstruct
@@ -69,7 +103,6 @@ public class AIServiceAdapter implements AIServicePort {
         // log.info("AI 서비스 클라이언트 초기화 완료");
 
         // OpenAI API 클라이언트 초기화
-        restTemplate = new RestTemplate();
         objectMapper = new ObjectMapper();
 
         if (openaiApiKey == null || openaiApiKey.trim().isEmpty() || openaiApiKey.equals("your-openai-api-key")) {
@@ -89,11 +122,17 @@ public class AIServiceAdapter implements AIServicePort {
                 return createEmptyFeedback();
             }
 
-            // OpenAI API 호출하여 전체 리뷰 분석
-            String analysisResult = callOpenAIForAnalysis(reviewData).replace("`", "");
+            // 동일/유사 리뷰를 합쳐 프롬프트 크기 축소
+            List<String> compactedReviews = promptCompactor.compact(reviewData);
+
+            // 한 번의 요청에 담을 수 있으면 전체 리뷰를 바로 분석
+            if (splitByTokenBudget(compactedReviews).size() == 1) {
+                String analysisResult = callOpenAIForAnalysis(compactedReviews).replace("`", "");
+                return parseAnalysisResult(analysisResult, reviewData.size());
+            }
 
-            // 결과 파싱 및 AiFeedback 객체 생성
-            return parseAnalysisResult(analysisResult, reviewData.size());
+            // 리뷰가 많으면 배치별 부분 요약(map) 후 최종 통합(reduce)
+            return generateFeedbackByMapReduce(compactedReviews, reviewData.size());
 
         } catch (Exception e) {
             log.error("OpenAI 피드백 생성 중 오류 발생", e);
@@ -119,38 +158,29 @@ public class AIServiceAdapter implements AIServicePort {
                 return createEmptyResultMap();
             }
 
-            // 리뷰를 번호와 함께 포맷팅
-            StringBuilder reviewsText = new StringBuilder();
-            for (int i = 0; i < validReviews.size(); i++) {
-                reviewsText.append(String.format("%d. %s\n", i + 1, validReviews.get(i)));
+            // 사전 기반 분류로 확신도가 높은 리뷰는 바로 집계하고 나머지만 AI로 분석
+            Map<SentimentType, Integer> sentimentMap = createEmptyResultMap();
+            List<String> ambiguousReviews = new ArrayList<>();
+            for (String review : validReviews) {
+                LexiconSentimentClassifier.Result lexicon = lexiconClassifier.classify(review);
+                if (lexicon.confident()) {
+                    sentimentMap.merge(lexicon.sentiment(), 1, Integer::sum);
+                } else {
+                    ambiguousReviews.add(review);
+                }
             }
 
-            String prompt = String.format(
-                """
-				다음 리뷰들을 분석하여 긍정, 부정, 중립의 개수를 세어주세요.
-				
-				리뷰 목록:
-				%s
-				
-				결과를 다음 JSON 형식으로만 답변해주세요:
-				{
-					"positive": 긍정_개수,
-					"negative": 부정_개수,
-					"neutral": 중립_개수
-				}
-				
-				다른 설명은 하지 말고 JSON만 답변해주세요.
-				긍정,부정,중립 개수를 모두 더했을때, 총 리뷰수와 동일해야 합니다.
-				정확하게 세어주세요.
-				""",
-                reviewsText.toString()
-            );
+            if (ambiguousReviews.isEmpty()) {
+                return sentimentMap;
+            }
 
-            // 기존 callOpenAI 메서드 활용
-            String result = callOpenAI(prompt);
+            // 동일/유사 리뷰를 합친 뒤 토큰 예산 기준으로 분할하여 청크별 분석 후 합산
+            List<List<String>> chunks = splitByTokenBudget(promptCompactor.compact(ambiguousReviews));
+            List<Map<SentimentType, Integer>> partials = runChunks(chunks,
+                chunk -> parseBulkSentimentResult(callOpenAIForBulkSentiments(chunk), chunk),
+                this::createFallbackResultMap);
 
-            // 결과 파싱
-            Map<SentimentType, Integer> sentimentMap = parseBulkSentimentResult(result, validReviews.size());
+            partials.forEach(partial -> partial.forEach((type, count) -> sentimentMap.merge(type, count, Integer::sum)));
 
             log.info("대량 리뷰 감정 분석 완료: 긍정={}, 부정={}, 중립={}",
                 sentimentMap.get(SentimentType.POSITIVE),
@@ -161,11 +191,137 @@ public class AIServiceAdapter implements AIServicePort {
 
         } catch (Exception e) {
             log.error("대량 리뷰 감정 분석 중 오류 발생, fallback 사용", e);
-            return createFallbackResultMap(reviews.size());
+            return createFallbackResultMap(reviews.stream()
+                .filter(review -> review != null && !review.trim().isEmpty())
+                .collect(Collectors.toList()));
+        }
+    }
+
+    @Override
+    public List<SentimentType> analyzeSentiments(List<String> reviews) {
+        log.info("리뷰별 감정 분석 시작: 리뷰 수={}", reviews.size());
+
+        if (reviews.isEmpty()) {
+            return List.of();
         }
+
+        // 토큰 예산 기준으로 분할하여 청크별 분석 후 입력 순서대로 이어붙임
+        List<List<String>> chunks = splitByTokenBudget(reviews);
+        List<List<SentimentType>> partials = runChunks(chunks,
+            chunk -> parseSentimentsResult(callOpenAIForSentiments(chunk), chunk.size()),
+            chunk -> new ArrayList<>(Collections.nCopies(chunk.size(), null)));
+
+        List<SentimentType> sentiments = new ArrayList<>(reviews.size());
+        partials.forEach(sentiments::addAll);
+
+        log.info("리뷰별 감정 분석 완료: 리뷰 수={}, 판별 수={}",
+            reviews.size(), sentiments.stream().filter(s -> s != null).count());
+        return sentiments;
     }
 
-    private Map<SentimentType, Integer> parseBulkSentimentResult(String result, int totalReviews) {
+    /**
+     * 리뷰별 감정 분석 요청
+     */
+    private String callOpenAIForSentiments(List<String> reviews) {
+        // 리뷰를 번호와 함께 포맷팅
+        StringBuilder reviewsText = new StringBuilder();
+        for (int i = 0; i < reviews.size(); i++) {
+            reviewsText.append(String.format("%d. %s\n", i + 1, reviews.get(i)));
+        }
+
+        String prompt = String.format(
+            """
+            다음 리뷰들의 감정을 각각 분석해주세요.
+            
+            리뷰 목록:
+            %s
+            
+            결과를 다음 JSON 형식으로만 답변해주세요:
+            {
+                "results": [
+                    {"index": 리뷰_번호, "sentiment": "POSITIVE"}
+                ]
+            }
+            
+            sentiment는 POSITIVE, NEGATIVE, NEUTRAL 중 하나여야 합니다.
+            모든 리뷰 번호에 대해 빠짐없이 답변해주세요.
+            다른 설명은 하지 말고 JSON만 답변해주세요.
+            """,
+            reviewsText.toString()
+        );
+
+        return callOpenAI(prompt, result -> isJsonObject(stripCodeFence(result)));
+    }
+
+    private List<SentimentType> parseSentimentsResult(String result, int totalReviews) {
+        try {
+            Map<String, List<SentimentItem>> jsonResult = objectMapper.readValue(stripCodeFence(result),
+                new TypeReference<Map<String, List<SentimentItem>>>() {});
+            List<SentimentItem> items = jsonResult.get("results");
+
+            List<SentimentType> sentiments = new ArrayList<>(Collections.nCopies(totalReviews, null));
+            if (items == null) {
+                return sentiments;
+            }
+
+            for (SentimentItem item : items) {
+                if (item == null || item.index() == null || item.sentiment() == null) {
+                    continue;
+                }
+                int index = item.index() - 1;
+                if (index < 0 || index >= totalReviews) {
+                    continue;
+                }
+                try {
+                    sentiments.set(index, SentimentType.valueOf(item.sentiment().trim().toUpperCase()));
+                } catch (IllegalArgumentException e) {
+                    log.debug("알 수 없는 감정 값 무시: {}", item.sentiment());
+                }
+            }
+            return sentiments;
+
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("리뷰별 감정 분석 결과 파싱에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 리뷰 목록의 긍정/부정/중립 개수 분석 요청
+     */
+    private String callOpenAIForBulkSentiments(List<String> reviews) {
+        // 리뷰를 번호와 함께 포맷팅
+        StringBuilder reviewsText = new StringBuilder();
+        for (int i = 0; i < reviews.size(); i++) {
+            reviewsText.append(String.format("%d. %s\n", i + 1, reviews.get(i)));
+        }
+
+        String prompt = String.format(
+            """
+			다음 리뷰들을 분석하여 긍정, 부정, 중립의 개수를 세어주세요.
+			
+			리뷰 목록:
+			%s
+			
+			결과를 다음 JSON 형식으로만 답변해주세요:
+			{
+				"positive": 긍정_개수,
+				"negative": 부정_개수,
+				"neutral": 중립_개수
+			}
+			
+			다른 설명은 하지 말고 JSON만 답변해주세요.
+			리뷰 끝의 (×N) 표기는 같은 내용의 리뷰가 N개라는 뜻이므로 N개로 세어주세요.
+			긍정,부정,중립 개수를 모두 더했을때, 총 리뷰수와 동일해야 합니다.
+			정확하게 세어주세요.
+			""",
+            reviewsText.toString()
+        );
+
+        return callOpenAI(prompt, result -> isJsonObject(result.trim()));
+    }
+
+    private Map<SentimentType, Integer> parseBulkSentimentResult(String result, List<String> reviews) {
+        int totalReviews = ReviewPromptCompactor.totalWeight(reviews);
         try {
             // 기존 objectMapper 필드 사용
             Map<String, Object> jsonResult = objectMapper.readValue(result.trim(), Map.class);
@@ -191,7 +347,7 @@ public class AIServiceAdapter implements AIServicePort {
 
         } catch (Exception e) {
             log.error("대량 감정 분석 결과 파싱 실패: {}", result, e);
-            return createFallbackResultMap(totalReviews);
+            return createFallbackResultMap(reviews);
         }
     }
 
@@ -203,17 +359,26 @@ public class AIServiceAdapter implements AIServicePort {
         return result;
     }
 
-    private Map<SentimentType, Integer> createFallbackResultMap(int totalReviews) {
-        Map<SentimentType, Integer> result = new HashMap<>();
-        result.put(SentimentType.POSITIVE, (int) (totalReviews * 0.6));
-        result.put(SentimentType.NEGATIVE, (int) (totalReviews * 0.2));
-        result.put(SentimentType.NEUTRAL, totalReviews - (int) (totalReviews * 0.6) - (int) (totalReviews * 0.2));
+    /**
+     * AI 분석 실패 시 사전 기반 분류로 감정별 개수 집계
+     */
+    private Map<SentimentType, Integer> createFallbackResultMap(List<String> reviews) {
+        Map<SentimentType, Integer> result = createEmptyResultMap();
+        for (String review : reviews) {
+            result.merge(lexiconClassifier.classify(review).sentiment(), ReviewPromptCompactor.weightOf(review), Integer::sum);
+        }
         return result;
     }
 
 
     @Override
     public SentimentType analyzeSentiment(String content) {
+        // 사전 기반 분류로 확신도가 높으면 AI 호출 없이 반환
+        LexiconSentimentClassifier.Result lexicon = lexiconClassifier.classify(content);
+        if (lexicon.confident()) {
+            return lexicon.sentiment();
+        }
+
         try {
             String prompt = String.format(
                 "다음 리뷰의 감정을 분석해주세요. POSITIVE, NEGATIVE, NEUTRAL 중 하나로만 답변해주세요.\n\n리뷰: %s",
@@ -231,8 +396,8 @@ public class AIServiceAdapter implements AIServicePort {
             }
 
         } catch (Exception e) {
-            log.warn("OpenAI 감정 분석 실패, 중립으로 처리: content={}", content.substring(0, Math.min(50, content.length())));
-            return SentimentType.NEUTRAL;
+            log.warn("OpenAI 감정 분석 실패, 사전 기반 분류로 처리: content={}", content.substring(0, Math.min(50, content.length())));
+            return lexicon.sentiment();
         }
     }
     
@@ -240,30 +405,7 @@ public class AIServiceAdapter implements AIServicePort {
     public List<String> generateActionPlan(List<String> actionPlanSelect, AiFeedback feedback) {
         log.info("OpenAI 실행 계획 생성 시작");
         try {
-
-            StringBuffer planFormat = new StringBuffer();
-            for(int i = 1; i <= actionPlanSelect.size(); i++) {
-                planFormat.append(i).append(" [구체적인 실행 계획 ").append(i).append("]\n");
-            }
-            String prompt = String.format(
-                """
-                다음 AI 피드백을 바탕으로 구체적인 실행 계획 %s개를 생성해주세요.
-                각 계획은 실행 가능하고 구체적이어야 합니다.
-                
-                요약: %s
-                개선점: %s
-                
-                실행계획 내용은 점주가 반영할 수 있도록 구체적어야 합니다.
-                실행 계획을 다음 형식으로 작성해주세요:
-                %s
-                """,
-                actionPlanSelect.size(),
-                feedback.getSummary(),
-                String.join(", ", actionPlanSelect),
-                planFormat
-            );
-
-            String result = callOpenAI(prompt);
+            String result = callOpenAI(buildActionPlanPrompt(actionPlanSelect, feedback));
             return parseActionPlans(result);
 
         } catch (Exception e) {
@@ -275,11 +417,455 @@ public class AIServiceAdapter implements AIServicePort {
         }
     }
 
+    @Override
+    public List<String> streamActionPlan(List<String> actionPlanSelect, AiFeedback feedback,
+                                         ActionPlanStreamListener listener) {
+        log.info("OpenAI 실행 계획 스트리밍 생성 시작");
+
+        if (openaiApiKey == null || openaiApiKey.trim().isEmpty() || openaiApiKey.equals("your-openai-api-key")) {
+            throw new RuntimeException("OpenAI API 키가 설정되지 않았습니다.");
+        }
+
+        String prompt = buildActionPlanPrompt(actionPlanSelect, feedback);
+        ActionPlanLineCollector collector = new ActionPlanLineCollector(listener);
+
+        // 동일한 프롬프트의 응답이 캐시되어 있으면 한 번에 전달
+        String cacheKey = llmResponseCache.keyOf(openaiModel, OPENAI_TEMPERATURE, prompt);
+        Optional<String> cached = llmResponseCache.get(cacheKey);
+        if (cached.isPresent()) {
+            collector.accept(cached.get());
+            return collector.finish();
+        }
+
+        try {
+            OpenAIRequest request = OpenAIRequest.builder()
+                .model(openaiModel)
+                .messages(List.of(
+                    OpenAIMessage.builder()
+                        .role("user")
+                        .content(prompt)
+                        .build()
+                ))
+                .maxTokens(1500)
+                .temperature(OPENAI_TEMPERATURE)
+                .stream(true)
+                .build();
+
+            openAIClient.streamChatCompletion(objectMapper.writeValueAsString(request), data -> {
+                String token = parseStreamDelta(data);
+                if (token != null && !token.isEmpty()) {
+                    collector.accept(token);
+                }
+            });
+        } catch (Exception e) {
+            log.error("OpenAI 실행 계획 스트리밍 생성 중 오류 발생", e);
+            throw new RuntimeException("OpenAI API 호출에 실패했습니다.", e);
+        }
+
+        List<String> plans = collector.finish();
+        if (!plans.isEmpty()) {
+            llmResponseCache.put(cacheKey, collector.getContent());
+        }
+        log.info("OpenAI 실행 계획 스트리밍 생성 완료: planCount={}", plans.size());
+        return plans;
+    }
+
+    /**
+     * 실행 계획 생성 프롬프트 구성
+     */
+    private String buildActionPlanPrompt(List<String> actionPlanSelect, AiFeedback feedback) {
+        StringBuffer planFormat = new StringBuffer();
+        for(int i = 1; i <= actionPlanSelect.size(); i++) {
+            planFormat.append(i).append(" [구체적인 실행 계획 ").append(i).append("]\n");
+        }
+        return String.format(
+            """
+            다음 AI 피드백을 바탕으로 구체적인 실행 계획 %s개를 생성해주세요.
+            각 계획은 실행 가능하고 구체적이어야 합니다.
+            
+            요약: %s
+            개선점: %s
+            
+            실행계획 내용은 점주가 반영할 수 있도록 구체적어야 합니다.
+            실행 계획을 다음 형식으로 작성해주세요:
+            %s
+            """,
+            actionPlanSelect.size(),
+            feedback.getSummary(),
+            String.join(", ", actionPlanSelect),
+            planFormat
+        );
+    }
+
+    /**
+     * 스트리밍 응답 조각에서 토큰 추출
+     */
+    private String parseStreamDelta(String data) {
+        try {
+            JsonNode content = objectMapper.readTree(data).path("choices").path(0).path("delta").path("content");
+            return content.isTextual() ? content.asText() : null;
+        } catch (Exception e) {
+            log.warn("OpenAI 스트리밍 응답 파싱 실패: data={}", data);
+            return null;
+        }
+    }
+
     @Override
     public String generateCustomerPositiveSummary(List<String> positiveReviews) {
         return "";
     }
 
+    /**
+     * 토큰 예산 기준으로 리뷰 목록 분할
+     * 입력 순서를 유지하며, 예산을 넘는 단일 리뷰는 단독 청크로 구성
+     */
+    private List<List<String>> splitByTokenBudget(List<String> reviews) {
+        List<List<String>> chunks = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int currentTokens = 0;
+
+        for (String review : reviews) {
+            int tokens = TokenEstimator.estimateLine(review);
+            if (!current.isEmpty() && currentTokens + tokens > chunkTokenBudget) {
+                chunks.add(current);
+                current = new ArrayList<>();
+                currentTokens = 0;
+            }
+            current.add(review);
+            currentTokens += tokens;
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+
+        if (chunks.size() > 1) {
+            log.info("리뷰 청크 분할: 리뷰 수={}, 청크 수={}, 청크 토큰 예산={}",
+                reviews.size(), chunks.size(), chunkTokenBudget);
+        }
+        return chunks;
+    }
+
+    /**
+     * 청크별 작업을 병렬로 실행하고 청크 순서대로 결과 반환
+     * 전체 청크에 하나의 제한 시간을 적용하며, 일부 청크 실패 시 fallback 결과를 사용하고 모든 청크가 실패하면 예외 발생
+     * 스레드 풀이 가득 차면 제출한 청크를 취소하고 호출한 스레드에서 순서대로 실행
+     */
+    private <T> List<T> runChunks(List<List<String>> chunks, Function<List<String>, T> task,
+                                  Function<List<String>, T> fallback) {
+        if (chunks.size() == 1) {
+            return Collections.singletonList(task.apply(chunks.get(0)));
+        }
+
+        // 취소 시 실행 중인 청크 스레드까지 인터럽트되도록 실행기 Future 사용
+        List<Future<T>> futures = new ArrayList<>(chunks.size());
+        try {
+            for (List<String> chunk : chunks) {
+                futures.add(llmTaskExecutor.submit(() -> task.apply(chunk)));
+            }
+        } catch (TaskRejectedException e) {
+            log.warn("청크 분석 스레드 풀 포화, 호출 스레드에서 순서대로 실행: 청크 수={}", chunks.size());
+            futures.forEach(future -> future.cancel(true));
+            return runChunksSequentially(chunks, task, fallback);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(CHUNK_TIMEOUT_SECONDS);
+        List<T> results = new ArrayList<>(chunks.size());
+        Exception lastError = null;
+        int failed = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                results.add(futures.get(i).get(remaining, TimeUnit.NANOSECONDS));
+            } catch (InterruptedException e) {
+                // 호출한 단계가 제한 시간 초과로 중단된 경우 남은 청크도 중단
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(true));
+                throw new IllegalStateException("청크 분석이 중단되었습니다.", e);
+            } catch (Exception e) {
+                log.warn("청크 분석 실패, fallback 사용: chunk={}/{}", i + 1, chunks.size(), e);
+                futures.get(i).cancel(true);
+                results.add(fallback.apply(chunks.get(i)));
+                lastError = e;
+                failed++;
+            }
+        }
+
+        if (failed == chunks.size()) {
+            throw new RuntimeException("모든 청크 분석에 실패했습니다.", lastError);
+        }
+        return results;
+    }
+
+    private <T> List<T> runChunksSequentially(List<List<String>> chunks, Function<List<String>, T> task,
+                                              Function<List<String>, T> fallback) {
+        List<T> results = new ArrayList<>(chunks.size());
+        RuntimeException lastError = null;
+        int failed = 0;
+        for (int i = 0; i < chunks.size(); i++) {
+            try {
+                results.add(task.apply(chunks.get(i)));
+            } catch (RuntimeException e) {
+                log.warn("청크 분석 실패, fallback 사용: chunk={}/{}", i + 1, chunks.size(), e);
+                results.add(fallback.apply(chunks.get(i)));
+                lastError = e;
+                failed++;
+            }
+        }
+
+        if (failed == chunks.size()) {
+            throw new RuntimeException("모든 청크 분석에 실패했습니다.", lastError);
+        }
+        return results;
+    }
+
+    /**
+     * 청크별 AI 피드백 병합
+     * 청크 순서를 기준으로 항목을 번갈아 취합하여 항상 같은 결과를 생성
+     */
+    private AiFeedback mergeFeedbacks(List<List<String>> chunks, List<AiFeedback> partials) {
+        List<AiFeedback> succeeded = new ArrayList<>();
+        int primaryIndex = -1;
+        int totalReviews = 0;
+        double weightedConfidence = 0.0;
+
+        for (int i = 0; i < partials.size(); i++) {
+            AiFeedback partial = partials.get(i);
+            if (partial == null) {
+                continue;
+            }
+            int size = ReviewPromptCompactor.totalWeight(chunks.get(i));
+            succeeded.add(partial);
+            totalReviews += size;
+            weightedConfidence += (partial.getConfidenceScore() != null ? partial.getConfidenceScore() : 0.0) * size;
+            if (primaryIndex < 0 || size > ReviewPromptCompactor.totalWeight(chunks.get(primaryIndex))) {
+                primaryIndex = i;
+            }
+        }
+
+        // 가장 많은 리뷰를 분석한 청크의 요약을 대표 요약으로 사용
+        AiFeedback primary = partials.get(primaryIndex);
+
+        return AiFeedback.builder()
+            .summary(primary.getSummary())
+            .positivePoints(mergePoints(succeeded, AiFeedback::getPositivePoints))
+            .negativePoints(mergePoints(succeeded, AiFeedback::getNegativePoints))
+            .improvementPoints(mergePoints(succeeded, AiFeedback::getImprovementPoints))
+            .recommendations(mergePoints(succeeded, AiFeedback::getRecommendations))
+            .sentimentAnalysis(primary.getSentimentAnalysis())
+            .positiveSummary(primary.getPositiveSummary())
+            .confidenceScore(weightedConfidence / totalReviews)
+            .generatedAt(LocalDateTime.now())
+            .build();
+    }
+
+    private List<String> mergePoints(List<AiFeedback> feedbacks, Function<AiFeedback, List<String>> extractor) {
+        Set<String> merged = new LinkedHashSet<>();
+        for (int rank = 0; merged.size() < MAX_MERGED_POINTS; rank++) {
+            boolean found = false;
+            for (AiFeedback feedback : feedbacks) {
+                List<String> points = extractor.apply(feedback);
+                if (points != null && rank < points.size()) {
+                    found = true;
+                    if (merged.size() < MAX_MERGED_POINTS) {
+                        merged.add(points.get(rank));
+                    }
+                }
+            }
+            if (!found) {
+                break;
+            }
+        }
+        return new ArrayList<>(merged);
+    }
+
+    /**
+     * 배치별 부분 요약(map)을 병렬로 생성한 뒤 하나의 AI 피드백으로 통합(reduce)
+     * 부분 요약이 많으면 토큰 예산 단위로 나누어 단계적으로 통합하며, 통합 호출 실패 시 부분 요약을 규칙 기반으로 병합
+     */
+    private AiFeedback generateFeedbackByMapReduce(List<String> reviewData, int totalReviews) {
+        List<List<String>> batches = splitIntoStableBatches(reviewData);
+        log.info("리뷰 배치 요약 시작: 리뷰 수={}, 배치 수={}", totalReviews, batches.size());
+
+        // map: 배치별 부분 요약 (변경 없는 배치는 이전 결과 재사용)
+        List<String> partialResults = runChunks(batches, this::summarizeBatch, batch -> null);
+
+        List<List<String>> succeededBatches = new ArrayList<>();
+        List<String> succeededResults = new ArrayList<>();
+        for (int i = 0; i < batches.size(); i++) {
+            if (partialResults.get(i) != null) {
+                succeededBatches.add(batches.get(i));
+                succeededResults.add(partialResults.get(i));
+            }
+        }
+
+        // reduce: 부분 요약 통합
+        try {
+            String reduced = reduceHierarchically(succeededBatches, succeededResults);
+            return parseAnalysisResult(reduced, totalReviews);
+
+        } catch (Exception e) {
+            log.warn("부분 요약 통합 실패, 규칙 기반 병합 사용: 배치 수={}", succeededResults.size(), e);
+            List<AiFeedback> partials = new ArrayList<>();
+            for (int i = 0; i < succeededResults.size(); i++) {
+                partials.add(parseAnalysisResult(succeededResults.get(i),
+                    ReviewPromptCompactor.totalWeight(succeededBatches.get(i))));
+            }
+            return mergeFeedbacks(succeededBatches, partials);
+        }
+    }
+
+    /**
+     * 리뷰 배치 부분 요약
+     * 배치 내용 지문을 키로 캐시하여 다음 분석 때 동일한 배치는 다시 호출하지 않음
+     */
+    private String summarizeBatch(List<String> batch) {
+        String cacheKey = "ai_feedback_batch:" + Fingerprints.sha256Hex(openaiModel + "\n" + String.join("\n", batch));
+
+        Optional<Object> cached = cachePort.getAnalyticsCache(cacheKey);
+        if (cached.isPresent() && cached.get() instanceof String partial) {
+            log.debug("배치 부분 요약 재사용: 리뷰 수={}", batch.size());
+            return partial;
+        }
+
+        String partial = callOpenAIForAnalysis(batch).replace("`", "");
+        try {
+            // JSON 형식이 올바른 결과만 재사용 대상으로 저장
+            objectMapper.readTree(partial);
+            cachePort.putAnalyticsCache(cacheKey, partial, Duration.ofHours(mapCacheTtlHours));
+        } catch (JsonProcessingException e) {
+            log.warn("배치 부분 요약 형식 오류, 캐시하지 않음: 리뷰 수={}", batch.size());
+        }
+        return partial;
+    }
+
+    /**
+     * 내용 기반 경계로 리뷰 목록을 배치로 분할
+     * 리뷰 지문이 경계 조건을 만족하는 위치에서 배치를 나누므로,
+     * 리뷰가 추가되거나 기간 밖으로 빠져도 나머지 배치 구성은 유지됨
+     */
+    private List<List<String>> splitIntoStableBatches(List<String> reviews) {
+        List<List<String>> batches = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int currentTokens = 0;
+
+        for (String review : reviews) {
+            int tokens = TokenEstimator.estimateLine(review);
+            if (!current.isEmpty() && currentTokens + tokens > chunkTokenBudget) {
+                batches.add(current);
+                current = new ArrayList<>();
+                currentTokens = 0;
+            }
+            current.add(review);
+            currentTokens += tokens;
+
+            if (Math.floorMod(review.hashCode(), mapBatchSize) == 0) {
+                batches.add(current);
+                current = new ArrayList<>();
+                currentTokens = 0;
+            }
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    /**
+     * 부분 요약을 토큰 예산 단위 묶음으로 나누어 통합하고, 결과가 하나가 될 때까지 단계별로 반복 (계층적 reduce)
+     * 통합 요청 하나의 입력이 청크 토큰 예산을 넘지 않도록 하며, 같은 단계의 묶음은 병렬로 통합
+     */
+    private String reduceHierarchically(List<List<String>> batches, List<String> partialResults) {
+        List<String> entries = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        for (int i = 0; i < partialResults.size(); i++) {
+            int weight = ReviewPromptCompactor.totalWeight(batches.get(i));
+            weights.add(weight);
+            entries.add(reduceEntry(weight, partialResults.get(i)));
+        }
+
+        for (int level = 1; ; level++) {
+            List<List<String>> groups = splitByTokenBudget(entries);
+            if (entries.size() > 1 && groups.size() == entries.size()) {
+                // 부분 결과 하나가 예산을 넘더라도 단계마다 개수가 줄도록 두 개씩 묶음
+                groups = new ArrayList<>();
+                for (int i = 0; i < entries.size(); i += 2) {
+                    groups.add(entries.subList(i, Math.min(i + 2, entries.size())));
+                }
+            }
+
+            List<String> reduced = runChunks(groups, this::callOpenAIForReduce, group -> null);
+            if (reduced.contains(null)) {
+                throw new IllegalStateException("부분 요약 통합에 실패한 묶음이 있습니다: level=" + level);
+            }
+            if (groups.size() == 1) {
+                if (level > 1) {
+                    log.info("부분 요약 단계별 통합 완료: 부분 요약 수={}, 단계 수={}", partialResults.size(), level);
+                }
+                return reduced.get(0).replace("`", "");
+            }
+
+            // 묶음별 통합 결과를 다음 단계의 입력으로 사용 (리뷰 수는 묶음 합계)
+            List<String> nextEntries = new ArrayList<>(groups.size());
+            List<Integer> nextWeights = new ArrayList<>(groups.size());
+            int index = 0;
+            for (int g = 0; g < groups.size(); g++) {
+                int weight = 0;
+                for (int k = 0; k < groups.get(g).size(); k++) {
+                    weight += weights.get(index++);
+                }
+                nextWeights.add(weight);
+                nextEntries.add(reduceEntry(weight, reduced.get(g).replace("`", "")));
+            }
+            entries = nextEntries;
+            weights = nextWeights;
+        }
+    }
+
+    private static String reduceEntry(int reviewCount, String partialResult) {
+        return String.format("리뷰 %d개\n%s", reviewCount, partialResult);
+    }
+
+    /**
+     * 부분 요약 묶음을 하나의 분석 결과로 통합 요청
+     */
+    private String callOpenAIForReduce(List<String> entries) {
+        StringBuilder partialsText = new StringBuilder();
+        for (int i = 0; i < entries.size(); i++) {
+            partialsText.append(String.format("[부분 분석 %d] %s\n\n", i + 1, entries.get(i)));
+        }
+
+        String prompt = String.format(
+            """
+            다음은 한 매장의 고객 리뷰를 여러 묶음으로 나누어 분석한 부분 결과들입니다.
+            부분 결과들을 종합하여 매장 전체에 대한 분석을 다음 JSON 형식으로 답변해주세요:
+            
+            {
+              "summary": "전체적인 분석 요약(1-2문장)",
+              "positivePoints": ["긍정적 요소1", "긍정적 요소2", "긍정적 요소3"],
+              "negativePoints": ["부정적 요소1", "부정적 요소2", "부정적 요소3"],
+              "improvementPoints": ["개선점1", "개선점2", "개선점3"],
+              "recommendations": ["추천사항1", "추천사항2", "추천사항3"],
+              "sentimentAnalysis": "전체적인 감정 분석 결과",
+              "confidenceScore": 0.85,
+              "positiveSummary": "리뷰중에 긍정적인 내용만 분석 요약(1~2문장)"
+            }
+            
+            부분 분석 결과:
+            %s
+            
+            통합 시 다음 사항을 고려해주세요:
+            1. 리뷰 수가 많은 부분 결과일수록 더 큰 비중으로 반영
+            2. 여러 부분 결과에서 반복되는 요소를 우선하여 선정
+            3. summary에는 **같은 강조하는 문자 없이 텍스트로만 나타내주세요
+            4. 분석한 내용에 `(백틱) 이 들어가지 않도록 해주세요.
+            5. positiveSummary에는 긍정적인 내용만 있어야 합니다.
+            """,
+            partialsText.toString()
+        );
+
+        return callOpenAI(prompt, result -> isJsonObject(result.replace("`", "")));
+    }
+
     /**
      * OpenAI API를 호출하여 전체 리뷰 분석 수행
      */
@@ -313,27 +899,38 @@ public class AIServiceAdapter implements AIServicePort {
             5. summary에는 전체적인 리뷰 분석에 대한 요약이 잘 담기게 작성하고 **같은 강조하는 문자 없이 텍스트로만 나타내주세요
             6. 분석한 내용에 `(백틱) 이 들어가지 않도록 해주세요.
             7. positiveSummary에는 긍정적인 내용만 있어야 합니다, summary에 있는 내용에서 긍정적인 부분만 작성해주세요.
+            8. 리뷰 끝의 (×N) 표기는 같은 내용의 리뷰가 N개라는 뜻이므로 그만큼 비중 있게 반영해주세요.
             """,
             reviewsText
         );
 
-        return callOpenAI(prompt);
+        return callOpenAI(prompt, result -> isJsonObject(result.replace("`", "")));
     }
 
     /**
-     * OpenAI API 호출
+     * OpenAI API 호출 (빈 응답이 아니면 캐시)
      */
     private String callOpenAI(String prompt) {
+        return callOpenAI(prompt, result -> !result.isBlank());
+    }
+
+    /**
+     * OpenAI API 호출
+     * 응답이 호출한 쪽에서 파싱할 수 있는 형식일 때만 캐시하여, 잘못된 응답이 TTL 동안 재사용되지 않도록 함
+     */
+    private String callOpenAI(String prompt, Predicate<String> cacheable) {
         if (openaiApiKey == null || openaiApiKey.trim().isEmpty() || openaiApiKey.equals("your-openai-api-key")) {
             throw new RuntimeException("OpenAI API 키가 설정되지 않았습니다.");
         }
 
-        try {
-            // 요청 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(openaiApiKey);
+        // 동일한 모델/temperature/프롬프트의 응답이 캐시되어 있으면 재사용
+        String cacheKey = llmResponseCache.keyOf(openaiModel, OPENAI_TEMPERATURE, prompt);
+        Optional<String> cached = llmResponseCache.get(cacheKey);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
 
+        try {
             // 요청 바디 생성
             OpenAIRequest request = OpenAIRequest.builder()
                 .model(openaiModel)
@@ -344,23 +941,20 @@ public class AIServiceAdapter implements AIServicePort {
                         .build()
                 ))
                 .maxTokens(1500)
-                .temperature(0.7)
+                .temperature(OPENAI_TEMPERATURE)
                 .build();
 
-            String requestBody = objectMapper.writeValueAsString(request);
-            HttpEntity<String> entity = new HttpEntity<>(requestBody, headers);
-
             // API 호출
-            String url = openaiBaseUrl + "/chat/completions";
-            ResponseEntity<String> response = restTemplate.exchange(
-                url,
-                HttpMethod.POST,
-                entity,
-                String.class
-            );
+            String responseBody = openAIClient.chatCompletion(objectMapper.writeValueAsString(request));
 
             // 응답 파싱
-            return parseOpenAIResponse(response.getBody());
+            String content = parseOpenAIResponse(responseBody);
+            if (content != null && cacheable.test(content)) {
+                llmResponseCache.put(cacheKey, content);
+            } else {
+                log.warn("OpenAI 응답 형식이 올바르지 않아 캐시하지 않음: length={}", content != null ? content.length() : 0);
+            }
+            return content;
 
         } catch (Exception e) {
             log.error("OpenAI API 호출 실패", e);
@@ -368,6 +962,28 @@ public class AIServiceAdapter implements AIServicePort {
         }
     }
 
+    /**
+     * 코드 블록 표시(```json)를 제거한 응답 본문
+     */
+    private static String stripCodeFence(String result) {
+        String cleaned = result.replace("`", "").trim();
+        if (cleaned.startsWith("json")) {
+            cleaned = cleaned.substring("json".length()).trim();
+        }
+        return cleaned;
+    }
+
+    /**
+     * JSON 객체로 파싱되는 응답인지 확인
+     */
+    private boolean isJsonObject(String content) {
+        try {
+            return objectMapper.readTree(content).isObject();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
     /**
      * OpenAI 응답 파싱
      */
@@ -442,13 +1058,70 @@ public class AIServiceAdapter implements AIServicePort {
         // 숫자로 시작하는 라인들을 찾아서 실행 계획으로 추출
         String[] lines = result.split("\n");
         return Arrays.stream(lines)
-            .filter(line -> line.matches("^\\d+\\..*"))
-            .map(line -> line.replaceFirst("^\\d+\\.\\s*", "").trim())
-            .filter(line -> !line.isEmpty())
-            .limit(5) // 최대 5개까지
+            .map(this::extractActionPlan)
+            .filter(Objects::nonNull)
+            .limit(MAX_ACTION_PLANS)
             .toList();
     }
 
+    /**
+     * 실행 계획 라인 추출 (숫자로 시작하는 라인이 아니면 null)
+     */
+    private String extractActionPlan(String line) {
+        if (!line.matches("^\\d+\\..*")) {
+            return null;
+        }
+        String plan = line.replaceFirst("^\\d+\\.\\s*", "").trim();
+        return plan.isEmpty() ? null : plan;
+    }
+
+    /**
+     * 스트리밍 토큰을 라인 단위로 모아 실행 계획이 완성될 때마다 리스너로 전달
+     */
+    private class ActionPlanLineCollector {
+
+        private final ActionPlanStreamListener listener;
+        private final StringBuilder content = new StringBuilder();
+        private final StringBuilder currentLine = new StringBuilder();
+        private final List<String> plans = new ArrayList<>();
+
+        ActionPlanLineCollector(ActionPlanStreamListener listener) {
+            this.listener = listener;
+        }
+
+        void accept(String token) {
+            content.append(token);
+            listener.onToken(token);
+
+            for (int i = 0; i < token.length(); i++) {
+                char c = token.charAt(i);
+                if (c == '\n') {
+                    completeLine();
+                } else {
+                    currentLine.append(c);
+                }
+            }
+        }
+
+        List<String> finish() {
+            completeLine();
+            return List.copyOf(plans);
+        }
+
+        String getContent() {
+            return content.toString();
+        }
+
+        private void completeLine() {
+            String plan = extractActionPlan(currentLine.toString());
+            currentLine.setLength(0);
+            if (plan != null && plans.size() < MAX_ACTION_PLANS) {
+                listener.onPlanCompleted(plans.size(), plan);
+                plans.add(plan);
+            }
+        }
+    }
+
     /**
      * 빈 피드백 생성
      */
@@ -515,6 +1188,8 @@ public class AIServiceAdapter implements AIServicePort {
         @JsonProperty("max_tokens")
         private Integer maxTokens;
         private Double temperature;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Boolean stream;
     }
 
     @Data
@@ -646,4 +1321,11 @@ public class AIServiceAdapter implements AIServicePort {
             return "고객 피드백 기반 서비스 개선 계획 수립";
         }
     }
+
+    /**
+     * 리뷰별 감정 분석 응답 항목 (index는 1부터 시작)
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record SentimentItem(Integer index, String sentiment) {
+    }
 }
@@ -0,0 +1,108 @@
+package com.ktds.hi.analytics.infra.gateway;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktds.hi.analytics.biz.domain.AnalysisJob;
+import com.ktds.hi.analytics.biz.usecase.out.AnalysisJobPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * AI 분석 작업 Redis 어댑터 클래스
+ * AnalysisJobPort를 구현하여 작업 상태와 매장별 실행 중 작업을 Redis에 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalysisJobRedisAdapter implements AnalysisJobPort {
+
+    private static final String JOB_KEY_PREFIX = "ai_analysis_job:";
+    private static final String STORE_KEY_PREFIX = "ai_analysis_job:store:";
+
+    /**
+     * 등록된 작업 ID가 일치할 때만 삭제 (조회와 삭제 사이에 다른 작업이 등록되는 경우 방지)
+     * KEYS[1]=매장 등록 키, ARGV[1]=작업 ID
+     */
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+        "  return redis.call('DEL', KEYS[1]) " +
+        "end " +
+        "return 0",
+        Long.class);
+
+    /**
+     * 등록된 작업 ID가 일치할 때만 만료 시간 연장
+     * KEYS[1]=매장 등록 키, ARGV[1]=작업 ID, ARGV[2]=TTL(ms)
+     */
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+        "  return redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+        "end " +
+        "return 0",
+        Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${analytics.ai-analysis.job-retention-hours:24}")
+    private long jobRetentionHours;
+
+    @Override
+    public void saveJob(AnalysisJob job) {
+        redisTemplate.opsForValue().set(JOB_KEY_PREFIX + job.getJobId(), job, Duration.ofHours(jobRetentionHours));
+    }
+
+    @Override
+    public Optional<AnalysisJob> findJob(String jobId) {
+        Object stored = redisTemplate.opsForValue().get(JOB_KEY_PREFIX + jobId);
+        if (stored == null) {
+            return Optional.empty();
+        }
+        return Optional.of(objectMapper.convertValue(stored, AnalysisJob.class));
+    }
+
+    @Override
+    public void deleteJob(String jobId) {
+        redisTemplate.delete(JOB_KEY_PREFIX + jobId);
+    }
+
+    @Override
+    public Optional<String> claimStore(Long storeId, String jobId, Duration ttl) {
+        String key = STORE_KEY_PREFIX + storeId;
+        Boolean claimed = redisTemplate.opsForValue().setIfAbsent(key, jobId, ttl);
+        if (Boolean.TRUE.equals(claimed)) {
+            return Optional.empty();
+        }
+
+        Object runningJobId = redisTemplate.opsForValue().get(key);
+        if (runningJobId == null) {
+            // 조회 사이에 기존 작업이 끝난 경우 다시 등록 시도
+            return claimStore(storeId, jobId, ttl);
+        }
+        return Optional.of(runningJobId.toString());
+    }
+
+    @Override
+    public boolean renewStore(Long storeId, String jobId, Duration ttl) {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(STORE_KEY_PREFIX + storeId), jobId, ttl.toMillis());
+        return renewed != null && renewed > 0;
+    }
+
+    @Override
+    public void releaseStore(Long storeId, String jobId) {
+        String key = STORE_KEY_PREFIX + storeId;
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), jobId);
+        } catch (Exception e) {
+            // 해제 실패 시 등록 TTL이 지나면 자동 해제됨
+            log.warn("매장 분석 작업 등록 해제 실패: storeId={}, jobId={}", storeId, jobId, e);
+        }
+    }
+}
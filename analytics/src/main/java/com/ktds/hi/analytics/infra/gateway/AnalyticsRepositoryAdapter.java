@@ -10,10 +10,14 @@ import com.ktds.hi.analytics.infra.gateway.entity.AnalyticsEntity;
 import com.ktds.hi.analytics.infra.gateway.entity.AiFeedbackEntity;
 import com.ktds.hi.analytics.infra.gateway.repository.AnalyticsJpaRepository;
 import com.ktds.hi.analytics.infra.gateway.repository.AiFeedbackJpaRepository;
+import com.ktds.hi.analytics.infra.gateway.repository.AiFeedbackLatestJpaRepository;
+import com.ktds.hi.analytics.infra.gateway.repository.AnalyticsLatestJpaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,37 +32,45 @@ public class AnalyticsRepositoryAdapter implements AnalyticsPort {
     
     private final AnalyticsJpaRepository analyticsJpaRepository;
     private final AiFeedbackJpaRepository aiFeedbackJpaRepository;
+    private final AnalyticsLatestJpaRepository analyticsLatestJpaRepository;
+    private final AiFeedbackLatestJpaRepository aiFeedbackLatestJpaRepository;
     private final ObjectMapper objectMapper;
     
     @Override
     public Optional<Analytics> findAnalyticsByStoreId(Long storeId) {
-        return analyticsJpaRepository.findLatestByStoreId(storeId)
+        // 최신 분석 데이터가 아직 지정되지 않은 매장(테이블 도입 이전 이력)은 이력 정렬 조회
+        return analyticsJpaRepository.findCurrentByStoreId(storeId)
+                .or(() -> analyticsJpaRepository.findLatestByStoreId(storeId))
                 .map(this::toDomain);
     }
     
     @Override
+    @Transactional
     public Analytics saveAnalytics(Analytics analytics) {
         AnalyticsEntity entity = toEntity(analytics);
-        AnalyticsEntity saved = analyticsJpaRepository.save(entity);
+        AnalyticsEntity saved = analyticsJpaRepository.saveAndFlush(entity);
+        analyticsLatestJpaRepository.upsert(saved.getStoreId(), saved.getId(), LocalDateTime.now());
         return toDomain(saved);
     }
     
     @Override
     public Optional<AiFeedback> findAIFeedbackByStoreId(Long storeId) {
-        return aiFeedbackJpaRepository.findLatestByStoreId(storeId)
+        return findCurrentAIFeedback(storeId)
                 .map(this::toAiFeedbackDomain);
     }
 
     @Override
     public Optional<AiFeedback> findPositiveAIFeedbackByStoreId(Long storeId) {
-        return aiFeedbackJpaRepository.findLatestByStoreId(storeId)
+        return findCurrentAIFeedback(storeId)
             .map(this::toAiFeedbackDomain);
     }
 
     @Override
+    @Transactional
     public AiFeedback saveAIFeedback(AiFeedback feedback) {
         AiFeedbackEntity entity = toAiFeedbackEntity(feedback);
-        AiFeedbackEntity saved = aiFeedbackJpaRepository.save(entity);
+        AiFeedbackEntity saved = aiFeedbackJpaRepository.saveAndFlush(entity);
+        aiFeedbackLatestJpaRepository.upsert(saved.getStoreId(), saved.getId(), saved.getGeneratedAt(), LocalDateTime.now());
         return toAiFeedbackDomain(saved);
     }
 
@@ -68,6 +80,15 @@ public class AnalyticsRepositoryAdapter implements AnalyticsPort {
             .map(this::toAiFeedbackDomain);
     }
     
+    /**
+     * 매장의 현재 AI 피드백 조회
+     * 최신 AI 피드백이 아직 지정되지 않은 매장(테이블 도입 이전 이력)은 이력 정렬 조회
+     */
+    private Optional<AiFeedbackEntity> findCurrentAIFeedback(Long storeId) {
+        return aiFeedbackJpaRepository.findCurrentByStoreId(storeId)
+                .or(() -> aiFeedbackJpaRepository.findLatestByStoreId(storeId));
+    }
+
     /**
      * Analytics Entity를 Domain으로 변환
      */
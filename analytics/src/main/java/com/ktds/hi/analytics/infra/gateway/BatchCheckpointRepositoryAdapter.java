@@ -0,0 +1,158 @@
+package com.ktds.hi.analytics.infra.gateway;
+
+import com.ktds.hi.analytics.biz.domain.BatchRun;
+import com.ktds.hi.analytics.biz.domain.BatchRunStatus;
+import com.ktds.hi.analytics.biz.domain.BatchTask;
+import com.ktds.hi.analytics.biz.domain.BatchTaskStatus;
+import com.ktds.hi.analytics.biz.usecase.out.BatchCheckpointPort;
+import com.ktds.hi.analytics.infra.gateway.entity.BatchRunEntity;
+import com.ktds.hi.analytics.infra.gateway.entity.BatchTaskEntity;
+import com.ktds.hi.analytics.infra.gateway.repository.BatchRunJpaRepository;
+import com.ktds.hi.analytics.infra.gateway.repository.BatchTaskJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 야간 일괄 분석 체크포인트 리포지토리 어댑터 클래스
+ * BatchCheckpointPort를 구현하여 실행과 매장별 작업 상태를 분석 DB에 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchCheckpointRepositoryAdapter implements BatchCheckpointPort {
+
+    private static final int INSERT_CHUNK_SIZE = 500;
+    private static final int ERROR_MESSAGE_LENGTH = 500;
+
+    private final BatchRunJpaRepository batchRunJpaRepository;
+    private final BatchTaskJpaRepository batchTaskJpaRepository;
+
+    @Override
+    public Optional<BatchRun> findRun(LocalDate batchDate) {
+        return batchRunJpaRepository.findByBatchDate(batchDate).map(this::toDomain);
+    }
+
+    @Override
+    public Optional<BatchRun> findLatestUnfinishedRun() {
+        return batchRunJpaRepository.findTopByStatusOrderByBatchDateDesc(BatchRunStatus.RUNNING).map(this::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public BatchRun createRun(LocalDate batchDate, List<Long> storeIds, int partitions) {
+        LocalDateTime now = LocalDateTime.now();
+        BatchRunEntity run = batchRunJpaRepository.saveAndFlush(BatchRunEntity.builder()
+                .batchDate(batchDate)
+                .status(BatchRunStatus.RUNNING)
+                .totalStores(storeIds.size())
+                .completedStores(0)
+                .failedStores(0)
+                .startedAt(now)
+                .heartbeatAt(now)
+                .build());
+
+        // 매장 목록을 파티션 수만큼 연속 구간으로 나누어 작업 생성
+        List<BatchTaskEntity> chunk = new ArrayList<>(INSERT_CHUNK_SIZE);
+        for (int i = 0; i < storeIds.size(); i++) {
+            chunk.add(BatchTaskEntity.builder()
+                    .runId(run.getId())
+                    .storeId(storeIds.get(i))
+                    .partitionNo((int) ((long) i * partitions / storeIds.size()))
+                    .status(BatchTaskStatus.PENDING)
+                    .attempts(0)
+                    .updatedAt(now)
+                    .build());
+            if (chunk.size() == INSERT_CHUNK_SIZE) {
+                batchTaskJpaRepository.saveAll(chunk);
+                chunk.clear();
+            }
+        }
+        batchTaskJpaRepository.saveAll(chunk);
+
+        log.info("야간 일괄 분석 실행 생성: runId={}, batchDate={}, stores={}, partitions={}",
+                run.getId(), batchDate, storeIds.size(), partitions);
+        return toDomain(run);
+    }
+
+    @Override
+    @Transactional
+    public boolean takeOverRun(Long runId, LocalDateTime staleBefore) {
+        return batchRunJpaRepository.takeOver(runId, BatchRunStatus.RUNNING, staleBefore, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    @Transactional
+    public void heartbeat(Long runId) {
+        batchRunJpaRepository.updateHeartbeat(runId, LocalDateTime.now());
+    }
+
+    @Override
+    public List<BatchTask> findPendingTasks(Long runId) {
+        return batchTaskJpaRepository.findByRunIdAndStatusOrderByPartitionNoAscIdAsc(runId, BatchTaskStatus.PENDING)
+                .stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public void updateTask(Long runId, Long storeId, BatchTaskStatus status, String errorMessage) {
+        String message = errorMessage != null && errorMessage.length() > ERROR_MESSAGE_LENGTH
+                ? errorMessage.substring(0, ERROR_MESSAGE_LENGTH)
+                : errorMessage;
+        batchTaskJpaRepository.updateStatus(runId, storeId, status, message, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public BatchRun finishRun(Long runId, BatchRunStatus status) {
+        BatchRunEntity run = batchRunJpaRepository.findById(runId)
+                .orElseThrow(() -> new IllegalStateException("야간 일괄 분석 실행을 찾을 수 없습니다: " + runId));
+
+        LocalDateTime now = LocalDateTime.now();
+        BatchRunEntity finished = batchRunJpaRepository.save(run.toBuilder()
+                .status(status)
+                .completedStores((int) batchTaskJpaRepository.countByRunIdAndStatus(runId, BatchTaskStatus.DONE))
+                .failedStores((int) batchTaskJpaRepository.countByRunIdAndStatus(runId, BatchTaskStatus.FAILED))
+                .heartbeatAt(now)
+                .finishedAt(now)
+                .build());
+        return toDomain(finished);
+    }
+
+    /**
+     * Entity를 Domain으로 변환
+     */
+    private BatchRun toDomain(BatchRunEntity entity) {
+        return BatchRun.builder()
+                .id(entity.getId())
+                .batchDate(entity.getBatchDate())
+                .status(entity.getStatus())
+                .totalStores(entity.getTotalStores())
+                .completedStores(entity.getCompletedStores())
+                .failedStores(entity.getFailedStores())
+                .startedAt(entity.getStartedAt())
+                .heartbeatAt(entity.getHeartbeatAt())
+                .finishedAt(entity.getFinishedAt())
+                .build();
+    }
+
+    private BatchTask toDomain(BatchTaskEntity entity) {
+        return BatchTask.builder()
+                .runId(entity.getRunId())
+                .storeId(entity.getStoreId())
+                .partitionNo(entity.getPartitionNo())
+                .status(entity.getStatus())
+                .attempts(entity.getAttempts())
+                .build();
+    }
+}
@@ -1,14 +1,42 @@
 package com.ktds.hi.analytics.infra.gateway;
 
+import com.fasterxml.jackson.databind.JavaType;
+import com.ktds.hi.analytics.biz.domain.LlmPriority;
 import com.ktds.hi.analytics.biz.usecase.out.CachePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Redis 캐시 어댑터 클래스
@@ -18,9 +46,68 @@ import java.util.Set;
 @Component
 @RequiredArgsConstructor
 public class CacheAdapter implements CachePort {
-    
+
+    private static final String LOCK_KEY_PREFIX = "lock:";
+    private static final String STORE_INDEX_KEY_PREFIX = "analytics:store-keys:";
+    private static final Pattern STORE_ID_PATTERN = Pattern.compile(":store:(\\d+)(?::|$)");
+
+    /**
+     * 자신이 획득한 잠금일 때만 해제
+     * KEYS[1]=잠금 키, ARGV[1]=잠금 토큰
+     */
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+        "  return redis.call('DEL', KEYS[1]) " +
+        "end " +
+        "return 0",
+        Long.class);
+
+    /**
+     * 매장 인덱스(ZSET, 점수는 키 만료 시각)에 캐시 키 등록
+     * 만료된 키는 등록할 때 정리하고, 인덱스는 등록된 키 중 가장 늦게 만료되는 시각에 함께 만료
+     * 인스턴스 간 시계 차이의 영향을 받지 않도록 Redis 서버 시각 사용
+     * KEYS[1]=매장 인덱스, ARGV[1]=캐시 키, ARGV[2]=캐시 TTL(ms)
+     */
+    private static final DefaultRedisScript<Long> REGISTER_SCRIPT = new DefaultRedisScript<>(
+        "local time = redis.call('TIME') " +
+        "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+        "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now) " +
+        "redis.call('ZADD', KEYS[1], now + tonumber(ARGV[2]), ARGV[1]) " +
+        "local last = redis.call('ZRANGE', KEYS[1], -1, -1, 'WITHSCORES') " +
+        "redis.call('PEXPIREAT', KEYS[1], last[2]) " +
+        "return 1",
+        Long.class);
+
+    private static final int INVALIDATE_BATCH_SIZE = 500;
+
     private final RedisTemplate<String, Object> redisTemplate;
-    
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CompactCacheCodec compactCacheCodec;
+    private final MeterRegistry meterRegistry;
+
+    @Qualifier("cacheRefreshExecutor")
+    private final ThreadPoolTaskExecutor cacheRefreshExecutor;
+
+    /**
+     * 인스턴스 내부에서 계산 중인 키별 결과
+     */
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${analytics.cache.single-flight.lock-ttl-ms:60000}")
+    private long lockTtlMillis;
+
+    @Value("${analytics.cache.single-flight.wait-ms:15000}")
+    private long lockWaitMillis;
+
+    @Value("${analytics.cache.single-flight.poll-ms:100}")
+    private long lockPollMillis;
+
+    @Value("${analytics.cache.refresh-ahead.enabled:true}")
+    private boolean refreshAheadEnabled;
+
+    @Value("${analytics.cache.refresh-ahead.hard-ttl-multiplier:2.0}")
+    private double hardTtlMultiplier;
+
     @Override
     public Optional<Object> getAnalyticsCache(String key) {
         try {
@@ -31,48 +118,406 @@ public class CacheAdapter implements CachePort {
             }
             log.debug("캐시 미스: key={}", key);
             return Optional.empty();
-            
+
         } catch (Exception e) {
             log.warn("캐시 조회 실패: key={}", key, e);
             return Optional.empty();
         }
     }
-    
+
     @Override
     public void putAnalyticsCache(String key, Object value, Duration ttl) {
         try {
             redisTemplate.opsForValue().set(key, value, ttl);
+            registerStoreKey(key, ttl);
             log.debug("캐시 저장: key={}, ttl={}초", key, ttl.getSeconds());
-            
+
         } catch (Exception e) {
             log.warn("캐시 저장 실패: key={}", key, e);
         }
     }
-    
+
+    /**
+     * ttlPolicy의 TTL이 지나면(soft expiry) 캐시 값을 그대로 반환하면서 백그라운드에서 갱신하고,
+     * TTL × hard-ttl-multiplier가 지나면(hard expiry) Redis에서 삭제되어 다음 요청이 직접 계산
+     */
+    @Override
+    public <T> T getOrCompute(String key, Class<T> type, Function<? super T, Duration> ttlPolicy, Supplier<T> loader) {
+        Optional<Entry<T>> cached = readEntry(key, type);
+        if (cached.isPresent()) {
+            if (cached.get().stale()) {
+                scheduleRefresh(key, type, ttlPolicy, loader, cached.get().value());
+            }
+            return cached.get().value();
+        }
+
+        // 1. 인스턴스 내부에서 이미 계산 중이면 그 결과를 기다림
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            countSingleFlight("coalesced");
+            log.debug("계산 중인 캐시 결과 대기: key={}", key);
+            return type.cast(join(running));
+        }
+
+        try {
+            T value = loadWithLock(key, type, ttlPolicy, loader);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 같은 키를 계산 중이어도 변경 이전 데이터로 계산했을 수 있으므로 기다리지 않고 다시 계산
+     */
+    @Override
+    public <T> T recompute(String key, Class<T> type, Function<? super T, Duration> ttlPolicy, Supplier<T> loader) {
+        String lockKey = LOCK_KEY_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+        boolean locked = tryLock(lockKey, token);
+
+        try {
+            countSingleFlight("recompute");
+            log.debug("캐시 재계산: key={}", key);
+            return loadAndStore(key, ttlPolicy, loader);
+
+        } finally {
+            if (locked) {
+                unlock(lockKey, token);
+            }
+        }
+    }
+
+    /**
+     * MGET 한 번으로 여러 키를 조회하여 갱신 시점이 지나지 않은 값만 반환
+     */
+    @Override
+    public <T> Map<String, T> getAllFresh(List<String> keys, Class<T> type) {
+        Map<String, T> result = new LinkedHashMap<>();
+        if (keys.isEmpty()) {
+            return result;
+        }
+
+        try {
+            byte[][] rawKeys = keys.stream().map(this::rawKey).toArray(byte[][]::new);
+            List<byte[]> values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                connection.stringCommands().mGet(rawKeys));
+            if (values == null) {
+                return result;
+            }
+
+            JavaType entryType = compactCacheCodec.getTypeFactory().constructParametricType(CachedEntry.class, type);
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < keys.size() && i < values.size(); i++) {
+                CachedEntry<T> entry = compactCacheCodec.decode(values.get(i), entryType);
+                if (entry != null && entry.getValue() != null && now < entry.getSoftExpiresAt()) {
+                    result.put(keys.get(i), entry.getValue());
+                }
+            }
+            log.debug("캐시 일괄 조회: requested={}, fresh={}", keys.size(), result.size());
+
+        } catch (Exception e) {
+            log.warn("캐시 일괄 조회 실패: keys={}", keys.size(), e);
+        }
+        return result;
+    }
+
+    /**
+     * Redis 잠금으로 전체 인스턴스에서 한 요청만 계산
+     * 다른 인스턴스가 계산 중이면 결과가 저장될 때까지 기다리고, 대기 시간이 지나거나 잠금이 사라지면 직접 계산
+     */
+    private <T> T loadWithLock(String key, Class<T> type, Function<? super T, Duration> ttlPolicy, Supplier<T> loader) {
+        String lockKey = LOCK_KEY_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+
+        boolean locked = tryLock(lockKey, token);
+        if (!locked) {
+            countSingleFlight("remote_wait");
+            Optional<T> computedElsewhere = awaitRemoteResult(key, lockKey, type);
+            if (computedElsewhere.isPresent()) {
+                return computedElsewhere.get();
+            }
+            log.info("다른 인스턴스의 캐시 계산 대기 종료, 직접 계산: key={}", key);
+        }
+
+        try {
+            // 잠금을 얻기 직전에 다른 인스턴스가 저장을 끝냈을 수 있음
+            Optional<Entry<T>> cached = readEntry(key, type);
+            if (cached.isPresent()) {
+                return cached.get().value();
+            }
+
+            countSingleFlight("leader");
+            return loadAndStore(key, ttlPolicy, loader);
+
+        } finally {
+            if (locked) {
+                unlock(lockKey, token);
+            }
+        }
+    }
+
+    /**
+     * 갱신 시점이 지난 캐시 값 백그라운드 갱신
+     * 인스턴스 내부나 다른 인스턴스에서 이미 갱신 중이면 건너뜀
+     */
+    private <T> void scheduleRefresh(String key, Class<T> type, Function<? super T, Duration> ttlPolicy,
+                                     Supplier<T> loader, T staleValue) {
+        if (!refreshAheadEnabled) {
+            return;
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, mine) != null) {
+            return;
+        }
+
+        try {
+            cacheRefreshExecutor.execute(() -> {
+                try {
+                    mine.complete(refresh(key, type, ttlPolicy, loader, staleValue));
+                } catch (RuntimeException e) {
+                    log.warn("캐시 백그라운드 갱신 실패, 기존 값 유지: key={}", key, e);
+                    mine.complete(staleValue);
+                } finally {
+                    inFlight.remove(key, mine);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.debug("캐시 갱신 스레드 풀 포화로 갱신 생략: key={}", key);
+            inFlight.remove(key, mine);
+            mine.complete(staleValue);
+        }
+    }
+
+    private <T> T refresh(String key, Class<T> type, Function<? super T, Duration> ttlPolicy,
+                          Supplier<T> loader, T staleValue) {
+        String lockKey = LOCK_KEY_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+        if (!tryLock(lockKey, token)) {
+            return staleValue;
+        }
+
+        try {
+            // 잠금을 얻기 직전에 다른 인스턴스가 갱신을 끝냈을 수 있음
+            Optional<Entry<T>> cached = readEntry(key, type);
+            if (cached.isPresent() && !cached.get().stale()) {
+                return cached.get().value();
+            }
+
+            countSingleFlight("refresh");
+            log.debug("캐시 백그라운드 갱신: key={}", key);
+            return LlmPriority.callWith(LlmPriority.BACKGROUND, () -> loadAndStore(key, ttlPolicy, loader));
+
+        } finally {
+            unlock(lockKey, token);
+        }
+    }
+
+    private <T> T loadAndStore(String key, Function<? super T, Duration> ttlPolicy, Supplier<T> loader) {
+        T value = loader.get();
+        if (value != null) {
+            putEntry(key, value, ttlPolicy.apply(value));
+        }
+        return value;
+    }
+
+    /**
+     * 갱신 시각을 포함한 캐시 항목 저장 (Redis TTL은 hard expiry)
+     * 요청 타입으로 바로 복원할 수 있도록 클래스 이름 없이 바이너리 코덱으로 저장
+     */
+    private void putEntry(String key, Object value, Duration softTtl) {
+        long softExpiresAt = System.currentTimeMillis() + softTtl.toMillis();
+        Duration hardTtl = refreshAheadEnabled
+            ? Duration.ofMillis((long) (softTtl.toMillis() * Math.max(1.0, hardTtlMultiplier)))
+            : softTtl;
+
+        try {
+            byte[] bytes = compactCacheCodec.encode(new CachedEntry<>(value, softExpiresAt));
+            redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                .set(rawKey(key), bytes, Expiration.from(hardTtl), RedisStringCommands.SetOption.upsert()));
+            registerStoreKey(key, hardTtl);
+            log.debug("캐시 저장: key={}, ttl={}초, size={}bytes", key, hardTtl.getSeconds(), bytes.length);
+
+        } catch (Exception e) {
+            log.warn("캐시 저장 실패: key={}", key, e);
+        }
+    }
+
+    /**
+     * 잠금 획득 시도
+     * Redis를 사용할 수 없으면 인스턴스 내부 합치기만 적용되도록 잠금 없이 진행
+     */
+    private boolean tryLock(String lockKey, String token) {
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(lockKey, token, Duration.ofMillis(lockTtlMillis));
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            log.warn("캐시 계산 잠금 획득 실패, 잠금 없이 진행: key={}", lockKey, e);
+            return true;
+        }
+    }
+
+    private void unlock(String lockKey, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+        } catch (Exception e) {
+            // 해제 실패 시 잠금 TTL이 지나면 자동 해제됨
+            log.warn("캐시 계산 잠금 해제 실패: key={}", lockKey, e);
+        }
+    }
+
+    private <T> Optional<T> awaitRemoteResult(String key, String lockKey, Class<T> type) {
+        long deadline = System.currentTimeMillis() + lockWaitMillis;
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                Thread.sleep(lockPollMillis);
+
+                Optional<Entry<T>> cached = readEntry(key, type);
+                if (cached.isPresent()) {
+                    return Optional.of(cached.get().value());
+                }
+                if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(lockKey))) {
+                    // 계산하던 인스턴스가 결과 없이 잠금을 해제한 경우
+                    return readEntry(key, type).map(Entry::value);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("캐시 계산 결과 대기 실패: key={}", key, e);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 캐시 항목을 요청 타입으로 조회
+     * 이 코덱으로 저장하지 않은 이전 형식의 값은 캐시 미스로 처리되어 새 형식으로 다시 저장됨
+     */
+    private <T> Optional<Entry<T>> readEntry(String key, Class<T> type) {
+        try {
+            byte[] bytes = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.stringCommands().get(rawKey(key)));
+            CachedEntry<T> entry = compactCacheCodec.decode(bytes,
+                compactCacheCodec.getTypeFactory().constructParametricType(CachedEntry.class, type));
+
+            if (entry == null || entry.getValue() == null) {
+                log.debug("캐시 미스: key={}", key);
+                return Optional.empty();
+            }
+            log.debug("캐시 히트: key={}", key);
+            return Optional.of(new Entry<>(entry.getValue(), System.currentTimeMillis() >= entry.getSoftExpiresAt()));
+
+        } catch (Exception e) {
+            log.warn("캐시 조회 실패: key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    private byte[] rawKey(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void countSingleFlight(String outcome) {
+        meterRegistry.counter("analytics.cache.single_flight", "outcome", outcome).increment();
+    }
+
     @Override
     public void invalidateCache(String key) {
         try {
             Boolean deleted = redisTemplate.delete(key);
+            String indexKey = storeIndexKey(key);
+            if (indexKey != null) {
+                stringRedisTemplate.opsForZSet().remove(indexKey, key);
+            }
             log.debug("캐시 삭제: key={}, deleted={}", key, deleted);
-            
+
         } catch (Exception e) {
             log.warn("캐시 삭제 실패: key={}", key, e);
         }
     }
-    
+
+    /**
+     * 매장 인덱스에 등록된 키만 삭제 (KEYS 전체 탐색 없음)
+     * Redis Cluster에서 슬롯이 다른 키를 함께 삭제할 수 있도록 스크립트 대신 클라이언트 명령으로 나누어 삭제하고,
+     * 삭제한 키만 인덱스에서 제거하여 그 사이 새로 등록된 키는 유지
+     */
     @Override
     public void invalidateStoreCache(Long storeId) {
+        String indexKey = STORE_INDEX_KEY_PREFIX + storeId;
         try {
-            String pattern = "analytics:store:" + storeId + "*";
-            Set<String> keys = redisTemplate.keys(pattern);
-            
-            if (keys != null && !keys.isEmpty()) {
-                Long deletedCount = redisTemplate.delete(keys);
-                log.info("매장 캐시 무효화: storeId={}, deleted={}", storeId, deletedCount);
+            Set<String> keys = stringRedisTemplate.opsForZSet().range(indexKey, 0, -1);
+            if (keys == null || keys.isEmpty()) {
+                log.info("매장 캐시 무효화: storeId={}, deleted=0", storeId);
+                return;
             }
-            
+
+            List<String> members = new ArrayList<>(keys);
+            long deletedCount = 0;
+            for (int i = 0; i < members.size(); i += INVALIDATE_BATCH_SIZE) {
+                List<String> batch = members.subList(i, Math.min(i + INVALIDATE_BATCH_SIZE, members.size()));
+                Long deleted = stringRedisTemplate.delete(batch);
+                deletedCount += deleted != null ? deleted : 0;
+                stringRedisTemplate.opsForZSet().remove(indexKey, batch.toArray());
+            }
+            log.info("매장 캐시 무효화: storeId={}, deleted={}", storeId, deletedCount);
+
         } catch (Exception e) {
             log.warn("매장 캐시 무효화 실패: storeId={}", storeId, e);
         }
     }
+
+    /**
+     * 키에 ":store:{id}"가 포함되어 있으면 해당 매장 인덱스에 등록
+     */
+    private void registerStoreKey(String key, Duration ttl) {
+        String indexKey = storeIndexKey(key);
+        if (indexKey == null) {
+            return;
+        }
+        stringRedisTemplate.execute(REGISTER_SCRIPT, List.of(indexKey), key, String.valueOf(ttl.toMillis()));
+    }
+
+    /**
+     * 캐시 키의 매장 인덱스 키 (매장 키가 아니면 null)
+     */
+    private String storeIndexKey(String key) {
+        Matcher matcher = STORE_ID_PATTERN.matcher(key);
+        return matcher.find() ? STORE_INDEX_KEY_PREFIX + matcher.group(1) : null;
+    }
+
+    /**
+     * 조회한 캐시 값과 갱신 필요 여부
+     */
+    private record Entry<T>(T value, boolean stale) {
+    }
+
+    /**
+     * Redis에 저장하는 캐시 항목 (값과 갱신 시각)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CachedEntry<T> {
+
+        private T value;
+        private long softExpiresAt;
+    }
 }
@@ -0,0 +1,104 @@
+package com.ktds.hi.analytics.infra.gateway;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 캐시 값 바이너리 코덱 클래스
+ * 클래스 이름을 싣지 않고 지정한 타입으로 Smile(바이너리 JSON) 인코딩하며, 기준 크기를 넘으면 gzip 압축
+ * 첫 바이트는 형식 표시 (1: Smile, 2: gzip + Smile)
+ */
+@Slf4j
+@Component
+public class CompactCacheCodec {
+
+    private static final byte FORMAT_SMILE = 1;
+    private static final byte FORMAT_SMILE_GZIP = 2;
+
+    private final ObjectMapper smileMapper;
+    private final int compressionThresholdBytes;
+
+    public CompactCacheCodec(ObjectMapper objectMapper,
+                             @Value("${analytics.cache.codec.compression-threshold-bytes:1024}") int compressionThresholdBytes) {
+        // 애플리케이션 ObjectMapper의 모듈과 설정(JavaTimeModule 등)을 그대로 사용
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.compressionThresholdBytes = compressionThresholdBytes;
+    }
+
+    public TypeFactory getTypeFactory() {
+        return smileMapper.getTypeFactory();
+    }
+
+    /**
+     * 값 인코딩
+     */
+    public byte[] encode(Object value) {
+        try {
+            byte[] payload = smileMapper.writeValueAsBytes(value);
+            if (payload.length < compressionThresholdBytes) {
+                return withFormat(FORMAT_SMILE, payload);
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 2 + 1);
+            out.write(FORMAT_SMILE_GZIP);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(payload);
+            }
+            return out.toByteArray();
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("캐시 값 인코딩에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 값 디코딩
+     * 이 코덱으로 인코딩하지 않은 값(이전 JSON 형식 등)이면 null 반환
+     */
+    public <T> T decode(byte[] bytes, JavaType type) {
+        if (bytes == null || bytes.length < 2) {
+            return null;
+        }
+
+        try {
+            InputStream payload = new ByteArrayInputStream(bytes, 1, bytes.length - 1);
+            return switch (bytes[0]) {
+                case FORMAT_SMILE -> smileMapper.readValue(payload, type);
+                case FORMAT_SMILE_GZIP -> {
+                    try (GZIPInputStream gzip = new GZIPInputStream(payload)) {
+                        yield smileMapper.readValue(gzip, type);
+                    }
+                }
+                default -> null;
+            };
+
+        } catch (IOException e) {
+            log.debug("캐시 값 디코딩 실패: type={}", type, e);
+            return null;
+        }
+    }
+
+    public <T> T decode(byte[] bytes, Class<T> type) {
+        return decode(bytes, smileMapper.constructType(type));
+    }
+
+    private byte[] withFormat(byte format, byte[] payload) {
+        byte[] bytes = new byte[payload.length + 1];
+        bytes[0] = format;
+        System.arraycopy(payload, 0, bytes, 1, payload.length);
+        return bytes;
+    }
+}
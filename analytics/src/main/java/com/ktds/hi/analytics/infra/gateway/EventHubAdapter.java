@@ -9,6 +9,9 @@ import com.azure.messaging.eventhubs.models.PartitionEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ktds.hi.analytics.biz.domain.ActionPlan;
 import com.ktds.hi.analytics.biz.domain.AnalysisType;
+import com.ktds.hi.analytics.biz.usecase.in.AiFeedbackRefreshUseCase;
+import com.ktds.hi.analytics.biz.usecase.in.ReviewAspectUseCase;
+import com.ktds.hi.analytics.biz.usecase.in.StoreRefreshUseCase;
 import com.ktds.hi.analytics.biz.usecase.out.EventPort;
 
 import jakarta.annotation.PostConstruct;
@@ -40,6 +43,9 @@ public class EventHubAdapter {
     private final EventHubProducerClient aiAnalysisEventProducer;
     
     private final ObjectMapper objectMapper;
+    private final StoreRefreshUseCase storeRefreshUseCase;
+    private final AiFeedbackRefreshUseCase aiFeedbackRefreshUseCase;
+    private final ReviewAspectUseCase reviewAspectUseCase;
     private final ExecutorService executorService = Executors.newFixedThreadPool(3);
     private volatile boolean isRunning = false;
     
@@ -168,36 +174,45 @@ public class EventHubAdapter {
     
     /**
      * 리뷰 생성 이벤트 처리
+     * 매장 분석 갱신을 예약하고, 연속된 이벤트는 한 번의 갱신으로 합쳐짐
+     * 신규 리뷰 유입은 AI 피드백 자동 갱신 우선순위에 반영하고, 리뷰 내용은 항목별 언급 집계에 반영
      */
     private void handleReviewCreatedEvent(Long storeId, Map<String, Object> event) {
         log.info("리뷰 생성 이벤트 처리: storeId={}", storeId);
-        
-        // TODO: 리뷰 생성 시 AI 분석 트리거
-        // 1. 새로운 리뷰 데이터 수집
-        // 2. AI 분석 요청
-        // 3. 분석 결과 저장
-        // 4. 캐시 무효화
+        storeRefreshUseCase.markStoreDirty(storeId, "REVIEW_CREATED");
+        aiFeedbackRefreshUseCase.recordNewReview(storeId);
+        reviewAspectUseCase.recordReview(storeId, toLong(event.get("reviewId")),
+            event.get("content") instanceof String content ? content : null,
+            event.get("createdAt") != null ? LenientDateTimeParser.parse(event.get("createdAt").toString()) : null);
     }
     
     /**
      * 리뷰 삭제 이벤트 처리
+     * 삭제된 리뷰를 제외하도록 매장 분석 갱신을 예약하고 항목별 언급 집계에서 제외
      */
     private void handleReviewDeletedEvent(Long storeId, Map<String, Object> event) {
         log.info("리뷰 삭제 이벤트 처리: storeId={}", storeId);
-        
-        // TODO: 리뷰 삭제 시 분석 데이터 재계산
-        // 1. 분석 데이터 재계산
-        // 2. 캐시 무효화
+        storeRefreshUseCase.markStoreDirty(storeId, "REVIEW_DELETED");
+        reviewAspectUseCase.removeReview(toLong(event.get("reviewId")));
     }
     
     /**
      * 리뷰 댓글 생성 이벤트 처리
+     * 매장 분석 갱신 예약
      */
     private void handleReviewCommentCreatedEvent(Long storeId, Map<String, Object> event) {
         log.info("리뷰 댓글 생성 이벤트 처리: storeId={}", storeId);
-        
-        // TODO: 댓글 생성 시 고객 응답률 분석
-        // 1. 고객 응답률 계산
-        // 2. 분석 데이터 업데이트
+        storeRefreshUseCase.markStoreDirty(storeId, "REVIEW_COMMENT_CREATED");
+    }
+
+    private static Long toLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        try {
+            return value != null ? Long.valueOf(value.toString()) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 }
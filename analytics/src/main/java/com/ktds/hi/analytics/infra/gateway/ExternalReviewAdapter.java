@@ -1,30 +1,22 @@
 package com.ktds.hi.analytics.infra.gateway;
 
-import com.fasterxml.jackson.annotation.JsonFormat;
-import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.ktds.hi.analytics.biz.domain.Review;
 import com.ktds.hi.analytics.biz.usecase.out.ExternalReviewPort;
 
-import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -38,9 +30,25 @@ import java.util.stream.Collectors;
 public class ExternalReviewAdapter implements ExternalReviewPort {
     
     private final RestTemplate restTemplate;
+    private final ReviewPageDecoder reviewPageDecoder;
+
+    @Qualifier("reviewFetchExecutor")
+    private final ExecutorService reviewFetchExecutor;
     
     @Value("${external.services.review}")
     private String reviewServiceUrl;
+
+    @Value("${analytics.review-fetch.page-size:50}")
+    private int pageSize;
+
+    @Value("${analytics.review-fetch.max-reviews:200}")
+    private int maxReviews;
+
+    @Value("${analytics.review-fetch.max-parallel-pages:4}")
+    private int maxParallelPages;
+
+    @Value("${analytics.review-fetch.page-timeout-seconds:30}")
+    private long pageTimeoutSeconds;
     
     @Override
     public List<String> getReviewData(Long storeId) {
@@ -48,19 +56,15 @@ public class ExternalReviewAdapter implements ExternalReviewPort {
         
         try {
             String url = reviewServiceUrl + "/api/reviews/stores/" + storeId + "/content";
-            // ReviewListResponse 배열로 직접 받기 (Review 서비스가 List<ReviewListResponse> 반환)
-            ReviewListResponse[] reviewArray = restTemplate.getForObject(url, ReviewListResponse[].class);
+            // 응답 스트림에서 content만 추출
+            List<String> reviews = restTemplate.execute(url, HttpMethod.GET, null,
+                response -> reviewPageDecoder.decodeContents(response.getBody()));
 
-            if (reviewArray == null || reviewArray.length == 0) {
+            if (reviews == null || reviews.isEmpty()) {
                 log.info("매장에 리뷰가 없습니다: storeId={}", storeId);
                 return List.of();
             }
 
-            // ReviewListResponse에서 content만 추출
-            List<String> reviews = Arrays.stream(reviewArray)
-                .map(ReviewListResponse::getContent)
-                .filter(content -> content != null && !content.trim().isEmpty())
-                .collect(Collectors.toList());
             log.info("리뷰 데이터 조회 완료: storeId={}, count={}", storeId, reviews.size());
             return reviews;
             
@@ -73,75 +77,31 @@ public class ExternalReviewAdapter implements ExternalReviewPort {
     
     @Override
     public List<String> getRecentReviews(Long storeId, Integer days) {
+        return findRecentReviews(storeId, days).stream()
+            .map(Review::getContent)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Review> findRecentReviews(Long storeId, Integer days) {
         log.info("최근 리뷰 데이터 조회: storeId={}, days={}", storeId, days);
         
         try {
-
-            //최근 데이터를 가져오도록 변경
-            // String url = reviewServiceUrl + "/api/reviews/stores/recent/" + storeId + "?size=100&days=" + days;
-            //
-            // // ReviewListResponse 배열로 직접 받기
-            // ReviewListResponse[] reviewArray = restTemplate.getForObject(url, ReviewListResponse[].class);
-
-            int totalSize = 200;
-            int threadCount = 4;
-            int pageSize = totalSize / threadCount; // 50개씩
-
-            // ExecutorService 생성
-            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
-            List<CompletableFuture<ReviewListResponse[]>> futures = new ArrayList<>();
-
-            // 4개의 비동기 요청 생성 (limit 50, offset 0/50/100/150)
-            for (int i = 0; i < threadCount; i++) {
-                final int offset = i * pageSize;
-                final int limit = pageSize;
-
-                CompletableFuture<ReviewListResponse[]> future = CompletableFuture.supplyAsync(() -> {
-                    String url = reviewServiceUrl + "/api/reviews/stores/recent/" + storeId
-                        + "?size=" + limit + "&offset=" + offset + "&days=" + days;
-
-                    log.debug("스레드 {}에서 URL 호출: {}", Thread.currentThread().getName(), url);
-
-                    // 기존과 동일한 방식으로 API 호출
-                    ReviewListResponse[] reviewArray = restTemplate.getForObject(url, ReviewListResponse[].class);
-
-                    if (reviewArray == null) {
-                        log.debug("스레드 {}에서 빈 응답 수신", Thread.currentThread().getName());
-                        return new ReviewListResponse[0];
-                    }
-
-                    log.debug("스레드 {}에서 {} 개 리뷰 수신", Thread.currentThread().getName(), reviewArray.length);
-                    return reviewArray;
-
-                }, executorService);
-
-                futures.add(future);
-            }
-
-            // 모든 요청 완료 대기 및 결과 합치기
-            List<ReviewListResponse> allReviewResponses = new ArrayList<>();
-            for (CompletableFuture<ReviewListResponse[]> future : futures) {
-                ReviewListResponse[] reviewArray = future.get(30, TimeUnit.SECONDS); // 30초 타임아웃
-                allReviewResponses.addAll(Arrays.asList(reviewArray));
-            }
-
-            executorService.shutdown();
-
-
             // 최근 N일 이내의 리뷰만 필터링
             LocalDateTime cutoffDate = LocalDateTime.now().minusDays(days);
-
-            List<String> recentReviews = allReviewResponses.stream()
-                .filter(review -> review.getCreatedAt() != null && review.getCreatedAt().isAfter(cutoffDate))
-                .map(ReviewListResponse::getContent)
-                .filter(content -> content != null && !content.trim().isEmpty())
-                .map(content -> content.replace("`", "")
-                    .replace("\n", "")
-                    .replace("\\", "")
-                    .replace("\"", ""))
-                .collect(Collectors.toList());
-
-
+            List<Review> recentReviews = new ArrayList<>();
+            for (Review review : fetchRecentReviewPages(storeId, days, cutoffDate)) {
+                if (review.getCreatedAt() != null && review.getCreatedAt().isAfter(cutoffDate)
+                        && review.getContent() != null && !review.getContent().trim().isEmpty()) {
+                    recentReviews.add(Review.builder()
+                        .reviewId(review.getReviewId())
+                        .storeId(storeId)
+                        .rating(review.getRating())
+                        .content(sanitizeContent(review.getContent()))
+                        .createdAt(review.getCreatedAt())
+                        .build());
+                }
+            }
 
             log.info("최근 리뷰 데이터 조회 완료: storeId={}, count={}", storeId, recentReviews.size());
             
@@ -149,10 +109,92 @@ public class ExternalReviewAdapter implements ExternalReviewPort {
             
         } catch (Exception e) {
             log.error("최근 리뷰 데이터 조회 실패: storeId={}", storeId, e);
-            return getDummyRecentReviews(storeId);
+            return getDummyRecentReviews(storeId).stream()
+                .map(content -> Review.builder()
+                    .storeId(storeId)
+                    .content(content)
+                    .build())
+                .collect(Collectors.toList());
         }
     }
 
+    /**
+     * 최근 리뷰 페이지 조회 (적응형 페이지네이션)
+     * 첫 페이지를 먼저 조회하고, 페이지가 가득 차 있고 기준일 이내이면 다음 페이지들을 1, 2, 4...개씩
+     * 동시에 조회하며 최대 건수까지 확장. 빈 페이지가 오거나 기준일보다 오래된 리뷰가 나오면 중단
+     * (리뷰 서비스가 페이지를 자른 뒤 활성 리뷰만 걸러 반환하므로 덜 찬 페이지가 마지막 페이지라는 보장은 없음)
+     */
+    private List<Review> fetchRecentReviewPages(Long storeId, Integer days, LocalDateTime cutoffDate)
+            throws Exception {
+        int maxPages = Math.max(1, (maxReviews + pageSize - 1) / pageSize);
+        List<Review> allReviews = new ArrayList<>();
+
+        int nextPage = 0;
+        int waveSize = 1;
+        while (nextPage < maxPages) {
+            int pagesInWave = Math.min(Math.min(waveSize, maxParallelPages), maxPages - nextPage);
+            List<CompletableFuture<List<Review>>> futures = new ArrayList<>(pagesInWave);
+            for (int i = 0; i < pagesInWave; i++) {
+                int page = nextPage + i;
+                futures.add(CompletableFuture.supplyAsync(
+                    () -> fetchReviewPage(storeId, days, page), reviewFetchExecutor));
+            }
+            nextPage += pagesInWave;
+
+            // 페이지 순서대로 합치며 마지막 페이지 여부 판단
+            for (CompletableFuture<List<Review>> future : futures) {
+                List<Review> page = future.get(pageTimeoutSeconds, TimeUnit.SECONDS);
+                allReviews.addAll(page);
+
+                if (page.isEmpty() || reachedCutoff(page, cutoffDate)) {
+                    futures.forEach(pending -> pending.cancel(true));
+                    log.debug("리뷰 페이지 조회 종료: storeId={}, pages={}, reviews={}",
+                        storeId, nextPage, allReviews.size());
+                    return allReviews;
+                }
+            }
+            waveSize *= 2;
+        }
+
+        log.debug("리뷰 페이지 조회 최대 건수 도달: storeId={}, reviews={}", storeId, allReviews.size());
+        return allReviews;
+    }
+
+    /**
+     * 리뷰 한 페이지 조회 (응답 본문을 스트리밍으로 디코딩)
+     */
+    private List<Review> fetchReviewPage(Long storeId, Integer days, int page) {
+        String url = reviewServiceUrl + "/api/reviews/stores/recent/" + storeId
+            + "?page=" + page + "&size=" + pageSize + "&days=" + days;
+        log.debug("리뷰 페이지 조회: {}", url);
+
+        List<Review> reviews = restTemplate.execute(url, HttpMethod.GET, null,
+            response -> reviewPageDecoder.decodeReviews(response.getBody(), storeId));
+        return reviews != null ? reviews : List.of();
+    }
+
+    /**
+     * 페이지에 기준일보다 오래된 리뷰가 있으면 이후 페이지는 조회할 필요 없음 (최신순 정렬 기준)
+     */
+    private boolean reachedCutoff(List<Review> page, LocalDateTime cutoffDate) {
+        for (Review review : page) {
+            if (review.getCreatedAt() != null && !review.getCreatedAt().isAfter(cutoffDate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 프롬프트에 포함될 수 없는 문자 제거
+     */
+    private String sanitizeContent(String content) {
+        return content.replace("`", "")
+            .replace("\n", "")
+            .replace("\\", "")
+            .replace("\"", "");
+    }
+
     @Override
     public List<String> getPositiveReviews(Long storeId, Integer days) {
         return List.of();
@@ -220,74 +262,4 @@ public class ExternalReviewAdapter implements ExternalReviewPort {
                 "다음에도 주문할게요!"
         );
     }
-
-
-    @Data
-    public static class ReviewListResponse {
-
-        @JsonProperty("reviewId")
-        private Long reviewId;
-
-        @JsonProperty("memberNickname")
-        private String memberNickname;
-
-        @JsonProperty("rating")
-        private Integer rating;
-
-        @JsonProperty("content")
-        private String content;
-
-        @JsonProperty("imageUrls")
-        private List<String> imageUrls;
-
-        @JsonProperty("likeCount")
-        private Integer likeCount;
-
-        @JsonProperty("dislikeCount")
-        private Integer dislikeCount;
-
-        @JsonProperty("createdAt")
-        @JsonDeserialize(using = FlexibleLocalDateTimeDeserializer.class)
-        private LocalDateTime createdAt;
-    }
-
-
-    /**
-     * 다양한 LocalDateTime 형식을 처리하는 커스텀 Deserializer
-     */
-    public static class FlexibleLocalDateTimeDeserializer extends JsonDeserializer<LocalDateTime> {
-
-        private static final DateTimeFormatter[] FORMATTERS = {
-            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS"),     // 마이크로초 6자리
-            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSS"),      // 마이크로초 5자리
-            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSS"),       // 마이크로초 4자리
-            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS"),        // 밀리초 3자리
-            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SS"),         // 2자리
-            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.S"),          // 1자리
-            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"),            // 초까지만
-            DateTimeFormatter.ISO_LOCAL_DATE_TIME                            // ISO 표준
-        };
-
-        @Override
-        public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
-            String dateString = parser.getText();
-
-            if (dateString == null || dateString.trim().isEmpty()) {
-                return null;
-            }
-
-            // 여러 형식으로 시도
-            for (DateTimeFormatter formatter : FORMATTERS) {
-                try {
-                    return LocalDateTime.parse(dateString, formatter);
-                } catch (DateTimeParseException e) {
-                    // 다음 형식으로 시도
-                }
-            }
-
-            // 모든 형식이 실패하면 현재 시간 반환 (에러 로그)
-            System.err.println("Failed to parse LocalDateTime: " + dateString + ", using current time");
-            return LocalDateTime.now();
-        }
-    }
 }
@@ -0,0 +1,59 @@
+package com.ktds.hi.analytics.infra.gateway;
+
+import com.ktds.hi.analytics.biz.usecase.out.StoreDirectoryPort;
+import com.ktds.hi.analytics.infra.dto.StoreSummaryResponse;
+import com.ktds.hi.common.dto.SuccessResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 외부 매장 서비스 어댑터 클래스
+ * 매장 서비스에서 전체 매장 목록을 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExternalStoreAdapter implements StoreDirectoryPort {
+
+    private final RestTemplate restTemplate;
+
+    @Value("${external.services.store}")
+    private String storeServiceUrl;
+
+    /**
+     * 조회 실패 시 일부 매장만 처리하지 않도록 예외 발생
+     */
+    @Override
+    public List<Long> findAllStoreIds() {
+        String url = storeServiceUrl + "/api/stores/stores/all";
+
+        ParameterizedTypeReference<SuccessResponse<List<StoreSummaryResponse>>> responseType =
+            new ParameterizedTypeReference<SuccessResponse<List<StoreSummaryResponse>>>() {};
+
+        ResponseEntity<SuccessResponse<List<StoreSummaryResponse>>> responseEntity =
+            restTemplate.exchange(url, HttpMethod.GET, null, responseType);
+
+        SuccessResponse<List<StoreSummaryResponse>> successResponse = responseEntity.getBody();
+        if (successResponse == null || !successResponse.isSuccess() || successResponse.getData() == null) {
+            throw new IllegalStateException("매장 목록 조회 응답이 올바르지 않습니다.");
+        }
+
+        List<Long> storeIds = successResponse.getData().stream()
+            .map(StoreSummaryResponse::getStoreId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .sorted()
+            .toList();
+        log.info("전체 매장 목록 조회 완료: count={}", storeIds.size());
+        return storeIds;
+    }
+}
@@ -0,0 +1,28 @@
+package com.ktds.hi.analytics.infra.gateway;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 캐시 키 생성을 위한 해시 유틸리티
+ */
+public final class Fingerprints {
+
+    private Fingerprints() {
+        // 유틸리티 클래스
+    }
+
+    /**
+     * 문자열의 SHA-256 해시를 16진수 문자열로 반환
+     */
+    public static String sha256Hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
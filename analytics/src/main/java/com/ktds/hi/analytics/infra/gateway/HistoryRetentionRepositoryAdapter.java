@@ -0,0 +1,45 @@
+package com.ktds.hi.analytics.infra.gateway;
+
+import com.ktds.hi.analytics.biz.usecase.out.HistoryRetentionPort;
+import com.ktds.hi.analytics.infra.gateway.repository.AiFeedbackJpaRepository;
+import com.ktds.hi.analytics.infra.gateway.repository.AiFeedbackLatestJpaRepository;
+import com.ktds.hi.analytics.infra.gateway.repository.AnalyticsJpaRepository;
+import com.ktds.hi.analytics.infra.gateway.repository.AnalyticsLatestJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분석 이력 보존 리포지토리 어댑터 클래스
+ * 삭제는 호출 단위(최대 limit건)로 트랜잭션을 나누어 잠금 시간을 짧게 유지
+ */
+@Component
+@RequiredArgsConstructor
+public class HistoryRetentionRepositoryAdapter implements HistoryRetentionPort {
+
+    private final AnalyticsJpaRepository analyticsJpaRepository;
+    private final AiFeedbackJpaRepository aiFeedbackJpaRepository;
+    private final AnalyticsLatestJpaRepository analyticsLatestJpaRepository;
+    private final AiFeedbackLatestJpaRepository aiFeedbackLatestJpaRepository;
+
+    @Override
+    @Transactional
+    public int backfillLatest() {
+        LocalDateTime now = LocalDateTime.now();
+        return analyticsLatestJpaRepository.backfillMissing(now) + aiFeedbackLatestJpaRepository.backfillMissing(now);
+    }
+
+    @Override
+    @Transactional
+    public int deleteAnalyticsHistoryBefore(LocalDateTime before, int limit) {
+        return analyticsJpaRepository.deleteHistoryBefore(before, limit);
+    }
+
+    @Override
+    @Transactional
+    public int deleteAiFeedbackHistoryBefore(LocalDateTime before, int limit) {
+        return aiFeedbackJpaRepository.deleteHistoryBefore(before, limit);
+    }
+}
@@ -0,0 +1,118 @@
+package com.ktds.hi.analytics.infra.gateway;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * 날짜/시간 문자열 파서 클래스
+ * "yyyy-MM-dd'T'HH:mm[:ss[.fraction]]" 형식을 문자 단위로 한 번만 읽어 해석하며, 해석할 수 없으면 예외 대신 null 반환
+ * 날짜와 시간 구분자는 'T' 또는 공백, 소수점 이하는 1~9자리, 끝의 'Z'나 시간대 오프셋은 무시
+ */
+public final class LenientDateTimeParser {
+
+    private LenientDateTimeParser() {
+    }
+
+    /**
+     * 날짜/시간 문자열 해석 (해석할 수 없으면 null)
+     */
+    public static LocalDateTime parse(CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+
+        int start = 0;
+        int end = text.length();
+        while (start < end && Character.isWhitespace(text.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) end--;
+
+        // yyyy-MM-ddTHH:mm 까지는 필수
+        if (end - start < 16) {
+            return null;
+        }
+
+        int year = digits(text, start, 4);
+        int month = digits(text, start + 5, 2);
+        int day = digits(text, start + 8, 2);
+        int hour = digits(text, start + 11, 2);
+        int minute = digits(text, start + 14, 2);
+        char dateTimeSeparator = text.charAt(start + 10);
+        if (text.charAt(start + 4) != '-' || text.charAt(start + 7) != '-'
+                || (dateTimeSeparator != 'T' && dateTimeSeparator != ' ')
+                || text.charAt(start + 13) != ':') {
+            return null;
+        }
+
+        int pos = start + 16;
+        int second = 0;
+        int nano = 0;
+        if (pos < end && text.charAt(pos) == ':') {
+            second = pos + 3 <= end ? digits(text, pos + 1, 2) : -1;
+            if (second < 0) {
+                return null;
+            }
+            pos += 3;
+
+            if (pos < end && text.charAt(pos) == '.') {
+                pos++;
+                int fractionDigits = 0;
+                while (pos < end && isDigit(text.charAt(pos))) {
+                    if (fractionDigits < 9) {
+                        nano = nano * 10 + (text.charAt(pos) - '0');
+                        fractionDigits++;
+                    }
+                    pos++;
+                }
+                if (fractionDigits == 0) {
+                    return null;
+                }
+                for (int i = fractionDigits; i < 9; i++) {
+                    nano *= 10;
+                }
+            }
+        }
+
+        // 시간대 표기(Z, +09:00 등)는 지역 시간으로 간주하고 무시
+        if (pos < end) {
+            char zone = text.charAt(pos);
+            if (zone != 'Z' && zone != '+' && zone != '-') {
+                return null;
+            }
+        }
+
+        return of(year, month, day, hour, minute, second, nano);
+    }
+
+    /**
+     * 각 항목 범위를 확인한 뒤 생성 (범위를 벗어나면 null)
+     */
+    public static LocalDateTime of(int year, int month, int day, int hour, int minute, int second, int nano) {
+        if (year < 0 || year > 9999 || month < 1 || month > 12 || day < 1
+                || day > Month.of(month).length(Year.isLeap(year))
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59
+                || nano < 0 || nano > 999_999_999) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+    }
+
+    /**
+     * 지정 위치의 숫자 n자리를 정수로 변환 (숫자가 아니면 -1)
+     */
+    private static int digits(CharSequence text, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
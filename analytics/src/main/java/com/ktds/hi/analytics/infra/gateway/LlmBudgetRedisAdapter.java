@@ -0,0 +1,96 @@
+package com.ktds.hi.analytics.infra.gateway;
+
+import com.ktds.hi.analytics.biz.domain.LlmBudgetResult;
+import com.ktds.hi.analytics.biz.usecase.out.LlmBudgetPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * AI 호출 예산 Redis 어댑터 클래스
+ * 구간 시작 시각별 카운터 키로 전체 인스턴스의 AI 호출 수를 집계 (고정 구간)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LlmBudgetRedisAdapter implements LlmBudgetPort {
+
+    private static final String BUDGET_KEY_PREFIX = "llm:budget:";
+
+    /**
+     * 한도 이내이면 차감
+     * KEYS[1]=구간 카운터, ARGV[1]=호출 수, ARGV[2]=한도, ARGV[3]=키 만료(ms)
+     */
+    private static final DefaultRedisScript<Long> CONSUME_SCRIPT = new DefaultRedisScript<>(
+        "local used = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+        "if used + tonumber(ARGV[1]) > tonumber(ARGV[2]) then return 0 end " +
+        "redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+        "redis.call('PEXPIRE', KEYS[1], tonumber(ARGV[3])) " +
+        "return 1",
+        Long.class);
+
+    /**
+     * 사용량 보정, 0 아래로는 내려가지 않음
+     * KEYS[1]=구간 카운터, ARGV[1]=보정 호출 수, ARGV[2]=키 만료(ms)
+     */
+    private static final DefaultRedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>(
+        "local used = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+        "if used < 0 then redis.call('SET', KEYS[1], 0) used = 0 end " +
+        "redis.call('PEXPIRE', KEYS[1], tonumber(ARGV[2])) " +
+        "return used",
+        Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * Redis 오류 시 예산을 확인할 수 없으므로 차감하지 않고 UNAVAILABLE 반환 (백그라운드 작업 보류)
+     */
+    @Override
+    public LlmBudgetResult tryConsume(String budgetName, int calls, int limit, Duration window) {
+        try {
+            Long consumed = stringRedisTemplate.execute(CONSUME_SCRIPT, List.of(windowKey(budgetName, window)),
+                String.valueOf(calls), String.valueOf(limit), String.valueOf(window.toMillis() * 2));
+            return consumed != null && consumed == 1L ? LlmBudgetResult.GRANTED : LlmBudgetResult.EXHAUSTED;
+
+        } catch (Exception e) {
+            log.warn("AI 호출 예산 차감 실패: budget={}", budgetName, e);
+            return LlmBudgetResult.UNAVAILABLE;
+        }
+    }
+
+    @Override
+    public void adjust(String budgetName, int calls, Duration window) {
+        if (calls == 0) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(ADJUST_SCRIPT, List.of(windowKey(budgetName, window)),
+                String.valueOf(calls), String.valueOf(window.toMillis() * 2));
+
+        } catch (Exception e) {
+            log.warn("AI 호출 예산 보정 실패: budget={}, calls={}", budgetName, calls, e);
+        }
+    }
+
+    @Override
+    public int used(String budgetName, Duration window) {
+        try {
+            String used = stringRedisTemplate.opsForValue().get(windowKey(budgetName, window));
+            return used != null ? Integer.parseInt(used) : 0;
+
+        } catch (Exception e) {
+            log.warn("AI 호출 예산 조회 실패: budget={}", budgetName, e);
+            return 0;
+        }
+    }
+
+    private String windowKey(String budgetName, Duration window) {
+        long windowStart = System.currentTimeMillis() / window.toMillis();
+        return BUDGET_KEY_PREFIX + budgetName + ":" + windowStart;
+    }
+}
@@ -0,0 +1,203 @@
+package com.ktds.hi.analytics.infra.gateway;
+
+import com.ktds.hi.analytics.biz.domain.LlmPriority;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 동시 호출 제어 클래스
+ * Redis sorted set에 만료 시각이 있는 lease를 기록해 전체 인스턴스의 동시 AI 호출 수를 제한
+ * BACKGROUND 레인은 INTERACTIVE 전용 예약분을 제외한 슬롯만 사용
+ * 만료 시각은 인스턴스 간 시계 차이의 영향을 받지 않도록 Redis 서버 시각 기준으로 계산하고,
+ * 스트리밍처럼 오래 걸리는 호출도 한도를 지키도록 보유 중인 lease를 주기적으로 연장
+ */
+@Slf4j
+@Component
+public class LlmConcurrencyGovernor {
+
+    private static final String LEASE_KEY = "llm:governor:leases";
+
+    /**
+     * 만료된 lease 정리 후 레인 한도 이내이면 lease 등록
+     * KEYS[1]=lease zset, ARGV[1]=leaseId, ARGV[2]=레인 한도, ARGV[3]=lease TTL(ms)
+     */
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+        "local time = redis.call('TIME') " +
+        "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+        "local ttl = tonumber(ARGV[3]) " +
+        "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now) " +
+        "if redis.call('ZCARD', KEYS[1]) < tonumber(ARGV[2]) then " +
+        "  redis.call('ZADD', KEYS[1], now + ttl, ARGV[1]) " +
+        "  redis.call('PEXPIRE', KEYS[1], ttl * 2) " +
+        "  return 1 " +
+        "end " +
+        "return 0",
+        Long.class);
+
+    /**
+     * 아직 남아 있는 lease의 만료 시각 연장 (이미 만료되어 정리된 lease는 다시 등록하지 않음)
+     * KEYS[1]=lease zset, ARGV[1]=lease TTL(ms), ARGV[2..]=leaseId
+     */
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+        "local time = redis.call('TIME') " +
+        "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+        "local ttl = tonumber(ARGV[1]) " +
+        "local renewed = 0 " +
+        "for i = 2, #ARGV do " +
+        "  renewed = renewed + redis.call('ZADD', KEYS[1], 'XX', 'CH', now + ttl, ARGV[i]) " +
+        "end " +
+        "if renewed > 0 then " +
+        "  redis.call('PEXPIRE', KEYS[1], ttl * 2) " +
+        "end " +
+        "return renewed",
+        Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final long leaseTtlMillis;
+    private final Map<LlmPriority, Integer> laneLimits = new EnumMap<>(LlmPriority.class);
+    private final Map<LlmPriority, Long> laneWaitMillis = new EnumMap<>(LlmPriority.class);
+    private final Map<LlmPriority, Long> lanePollMillis = new EnumMap<>(LlmPriority.class);
+    private final Map<LlmPriority, Timer> laneWaitTimers = new EnumMap<>(LlmPriority.class);
+
+    /**
+     * 이 인스턴스가 보유 중인 lease
+     */
+    private final Set<String> activeLeases = ConcurrentHashMap.newKeySet();
+
+    public LlmConcurrencyGovernor(StringRedisTemplate redisTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${ai-api.openai.governor.enabled:true}") boolean enabled,
+                                  @Value("${ai-api.openai.governor.max-concurrent:16}") int maxConcurrent,
+                                  @Value("${ai-api.openai.governor.interactive-reserved:4}") int interactiveReserved,
+                                  @Value("${ai-api.openai.governor.lease-ttl-ms:90000}") long leaseTtlMillis,
+                                  @Value("${ai-api.openai.governor.interactive-wait-ms:30000}") long interactiveWaitMillis,
+                                  @Value("${ai-api.openai.governor.background-wait-ms:600000}") long backgroundWaitMillis) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.leaseTtlMillis = leaseTtlMillis;
+
+        laneLimits.put(LlmPriority.INTERACTIVE, maxConcurrent);
+        laneLimits.put(LlmPriority.BACKGROUND, Math.max(1, maxConcurrent - interactiveReserved));
+        laneWaitMillis.put(LlmPriority.INTERACTIVE, interactiveWaitMillis);
+        laneWaitMillis.put(LlmPriority.BACKGROUND, backgroundWaitMillis);
+        lanePollMillis.put(LlmPriority.INTERACTIVE, 50L);
+        lanePollMillis.put(LlmPriority.BACKGROUND, 250L);
+
+        for (LlmPriority priority : LlmPriority.values()) {
+            laneWaitTimers.put(priority, Timer.builder("llm.governor.wait")
+                .tag("lane", priority.name())
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 레인 한도 내에서 lease 획득
+     * Redis를 사용할 수 없으면 인스턴스 로컬 제한만 적용되도록 제어 없이 통과
+     */
+    public Lease acquire(LlmPriority priority) {
+        if (!enabled) {
+            return Lease.NONE;
+        }
+
+        String leaseId = UUID.randomUUID().toString();
+        long start = System.nanoTime();
+        long deadline = System.currentTimeMillis() + laneWaitMillis.get(priority);
+
+        try {
+            while (true) {
+                Long acquired = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(LEASE_KEY),
+                    leaseId,
+                    String.valueOf(laneLimits.get(priority)),
+                    String.valueOf(leaseTtlMillis));
+
+                if (acquired != null && acquired == 1L) {
+                    activeLeases.add(leaseId);
+                    return new Lease(this, leaseId);
+                }
+                if (System.currentTimeMillis() >= deadline) {
+                    throw new IllegalStateException("AI 호출 슬롯을 기다리다 시간이 초과되었습니다: lane=" + priority);
+                }
+                Thread.sleep(lanePollMillis.get(priority));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("AI 호출 슬롯 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("AI 호출 슬롯 획득 실패, 분산 제어 없이 진행: lane={}", priority, e);
+            return Lease.NONE;
+        } finally {
+            laneWaitTimers.get(priority).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 보유 중인 lease 만료 시각 연장
+     */
+    @Scheduled(fixedDelayString = "${ai-api.openai.governor.renew-interval-ms:30000}")
+    public void renewLeases() {
+        if (activeLeases.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(activeLeases.size() + 1);
+        args.add(String.valueOf(leaseTtlMillis));
+        args.addAll(activeLeases);
+        try {
+            redisTemplate.execute(RENEW_SCRIPT, List.of(LEASE_KEY), args.toArray());
+        } catch (Exception e) {
+            // 연장 실패 시 다음 주기에 다시 시도
+            log.warn("AI 호출 슬롯 연장 실패: leases={}", args.size() - 1, e);
+        }
+    }
+
+    private void release(String leaseId) {
+        activeLeases.remove(leaseId);
+        try {
+            redisTemplate.opsForZSet().remove(LEASE_KEY, leaseId);
+        } catch (Exception e) {
+            // 반납 실패 시 lease 만료 시각이 지나면 자동 정리됨
+            log.warn("AI 호출 슬롯 반납 실패: leaseId={}", leaseId, e);
+        }
+    }
+
+    /**
+     * 획득한 AI 호출 슬롯
+     */
+    public static final class Lease implements AutoCloseable {
+
+        private static final Lease NONE = new Lease(null, null);
+
+        private final LlmConcurrencyGovernor governor;
+        private final String leaseId;
+
+        private Lease(LlmConcurrencyGovernor governor, String leaseId) {
+            this.governor = governor;
+            this.leaseId = leaseId;
+        }
+
+        @Override
+        public void close() {
+            if (governor != null) {
+                governor.release(leaseId);
+            }
+        }
+    }
+}
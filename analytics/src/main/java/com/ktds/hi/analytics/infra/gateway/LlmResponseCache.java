@@ -0,0 +1,158 @@
+package com.ktds.hi.analytics.infra.gateway;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * AI 응답 캐시 클래스
+ * 모델, temperature, 정규화된 프롬프트의 해시를 키로 AI 응답을 캐시
+ * Redis를 우선 사용하고, Redis 장애 시 로컬 메모리 캐시로 대체
+ */
+@Slf4j
+@Component
+public class LlmResponseCache {
+
+    private static final String KEY_PREFIX = "llm_response:";
+    private static final String INDEX_KEY = "llm_response:index";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Map<String, LocalEntry> localCache;
+
+    private final Counter redisHitCounter;
+    private final Counter localHitCounter;
+    private final Counter missCounter;
+
+    public LlmResponseCache(RedisTemplate<String, Object> redisTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${ai-api.openai.response-cache.enabled:true}") boolean enabled,
+                            @Value("${ai-api.openai.response-cache.ttl-minutes:1440}") long ttlMinutes,
+                            @Value("${ai-api.openai.response-cache.max-entries:10000}") int maxEntries) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.maxEntries = maxEntries;
+        this.localCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalEntry> eldest) {
+                return size() > LlmResponseCache.this.maxEntries;
+            }
+        };
+
+        this.redisHitCounter = Counter.builder("llm.response.cache")
+            .tag("result", "hit").tag("source", "redis").register(meterRegistry);
+        this.localHitCounter = Counter.builder("llm.response.cache")
+            .tag("result", "hit").tag("source", "local").register(meterRegistry);
+        this.missCounter = Counter.builder("llm.response.cache")
+            .tag("result", "miss").tag("source", "none").register(meterRegistry);
+    }
+
+    /**
+     * 캐시 키 생성
+     */
+    public String keyOf(String model, double temperature, String prompt) {
+        String normalizedPrompt = prompt.strip().replaceAll("\\s+", " ");
+        return KEY_PREFIX + Fingerprints.sha256Hex(model + "|" + temperature + "|" + normalizedPrompt);
+    }
+
+    /**
+     * 캐시된 응답 조회
+     */
+    public Optional<String> get(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        try {
+            Object cached = redisTemplate.opsForValue().get(key);
+            if (cached instanceof String response) {
+                redisHitCounter.increment();
+                log.debug("AI 응답 캐시 히트: key={}", key);
+                return Optional.of(response);
+            }
+        } catch (Exception e) {
+            log.warn("AI 응답 캐시 조회 실패, 로컬 캐시 사용: key={}", key, e);
+            Optional<String> local = getLocal(key);
+            if (local.isPresent()) {
+                localHitCounter.increment();
+                return local;
+            }
+        }
+
+        missCounter.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * 응답 저장
+     * Redis에는 TTL과 함께 저장하고, 인덱스(sorted set)로 최대 항목 수를 유지
+     */
+    public void put(String key, String response) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            redisTemplate.opsForValue().set(key, response, ttl);
+            redisTemplate.opsForZSet().add(INDEX_KEY, key, System.currentTimeMillis());
+            trimRedisIndex();
+        } catch (Exception e) {
+            log.warn("AI 응답 캐시 저장 실패, 로컬 캐시에 저장: key={}", key, e);
+            putLocal(key, response);
+        }
+    }
+
+    /**
+     * 최대 항목 수를 넘은 오래된 응답 삭제
+     */
+    private void trimRedisIndex() {
+        Long size = redisTemplate.opsForZSet().size(INDEX_KEY);
+        if (size == null || size <= maxEntries) {
+            return;
+        }
+
+        Set<Object> evicted = redisTemplate.opsForZSet().range(INDEX_KEY, 0, size - maxEntries - 1);
+        if (evicted == null || evicted.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.delete(evicted.stream().map(Object::toString).toList());
+        redisTemplate.opsForZSet().remove(INDEX_KEY, evicted.toArray());
+        log.debug("AI 응답 캐시 정리: evicted={}", evicted.size());
+    }
+
+    private Optional<String> getLocal(String key) {
+        synchronized (localCache) {
+            LocalEntry entry = localCache.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (entry.expiresAt() < System.currentTimeMillis()) {
+                localCache.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(entry.response());
+        }
+    }
+
+    private void putLocal(String key, String response) {
+        synchronized (localCache) {
+            localCache.put(key, new LocalEntry(response, System.currentTimeMillis() + ttl.toMillis()));
+        }
+    }
+
+    private record LocalEntry(String response, long expiresAt) {
+    }
+}
@@ -0,0 +1,297 @@
+package com.ktds.hi.analytics.infra.gateway;
+
+import com.ktds.hi.analytics.biz.domain.LlmCallMeter;
+import com.ktds.hi.analytics.biz.domain.LlmPriority;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * OpenAI HTTP 클라이언트 클래스
+ * 커넥션을 재사용하는 전용 HTTP 클라이언트로 동시 호출 수를 제한하고,
+ * 429/5xx 응답 시 Retry-After 및 rate limit 헤더에 맞춰 재시도
+ */
+@Slf4j
+@Component
+public class OpenAIClient {
+
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(
+        HttpStatus.TOO_MANY_REQUESTS.value(),
+        HttpStatus.INTERNAL_SERVER_ERROR.value(),
+        HttpStatus.BAD_GATEWAY.value(),
+        HttpStatus.SERVICE_UNAVAILABLE.value(),
+        HttpStatus.GATEWAY_TIMEOUT.value());
+
+    private static final long BASE_BACKOFF_MILLIS = 500;
+    private static final Pattern RESET_DURATION_PART = Pattern.compile("(\\d+(?:\\.\\d+)?)(ms|s|m|h)");
+
+    private final String baseUrl;
+    private final String apiKey;
+    private final RestTemplate restTemplate;
+    private final LlmConcurrencyGovernor governor;
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+    private final int maxRetries;
+    private final long maxBackoffMillis;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+
+    public OpenAIClient(MeterRegistry meterRegistry,
+                        LlmConcurrencyGovernor governor,
+                        @Value("${ai-api.openai.base-url:https://api.openai.com/v1}") String baseUrl,
+                        @Value("${ai-api.openai.api-key:}") String apiKey,
+                        @Value("${ai-api.openai.http.connect-timeout-ms:5000}") long connectTimeoutMillis,
+                        @Value("${ai-api.openai.http.read-timeout-ms:60000}") long readTimeoutMillis,
+                        @Value("${ai-api.openai.http.max-concurrent-requests:8}") int maxConcurrentRequests,
+                        @Value("${ai-api.openai.http.acquire-timeout-ms:30000}") long acquireTimeoutMillis,
+                        @Value("${ai-api.openai.http.max-retries:3}") int maxRetries,
+                        @Value("${ai-api.openai.http.max-backoff-ms:30000}") long maxBackoffMillis) {
+        this.baseUrl = baseUrl;
+        this.apiKey = apiKey;
+        this.governor = governor;
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.maxRetries = maxRetries;
+        this.maxBackoffMillis = maxBackoffMillis;
+
+        // JDK HttpClient는 내부 커넥션 풀로 keep-alive 커넥션을 재사용
+        HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+        this.restTemplate = new RestTemplate(requestFactory);
+
+        Gauge.builder("llm.http.queue.depth", permits, Semaphore::getQueueLength)
+            .description("OpenAI 호출 대기 중인 요청 수")
+            .register(meterRegistry);
+        Gauge.builder("llm.http.in.flight", permits, p -> maxConcurrentRequests - p.availablePermits())
+            .description("OpenAI 호출 진행 중인 요청 수")
+            .register(meterRegistry);
+        this.successTimer = Timer.builder("llm.http.latency").tag("outcome", "success")
+            .publishPercentiles(0.5, 0.95, 0.99).register(meterRegistry);
+        this.failureTimer = Timer.builder("llm.http.latency").tag("outcome", "failure")
+            .publishPercentiles(0.5, 0.95, 0.99).register(meterRegistry);
+    }
+
+    /**
+     * Chat Completions API 호출
+     * 요청 본문(JSON)을 전송하고 응답 본문을 그대로 반환
+     */
+    public String chatCompletion(String requestBody) {
+        HttpEntity<String> entity = new HttpEntity<>(requestBody, jsonHeaders());
+        String url = baseUrl + "/chat/completions";
+
+        return withRetries(() -> executeWithPermit(() ->
+            restTemplate.exchange(url, HttpMethod.POST, entity, String.class).getBody()), () -> false);
+    }
+
+    /**
+     * Chat Completions API 스트리밍 호출 (stream=true 요청 본문)
+     * SSE 응답의 data 항목을 도착 순서대로 전달하며, "[DONE]" 수신 시 종료
+     * 데이터를 전달하기 시작한 뒤의 오류는 재시도하지 않음
+     */
+    public void streamChatCompletion(String requestBody, Consumer<String> onData) {
+        String url = baseUrl + "/chat/completions";
+        AtomicBoolean started = new AtomicBoolean(false);
+
+        withRetries(() -> executeWithPermit(() -> restTemplate.execute(url, HttpMethod.POST,
+            request -> {
+                request.getHeaders().addAll(jsonHeaders());
+                request.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                request.getBody().write(requestBody.getBytes(StandardCharsets.UTF_8));
+            },
+            response -> {
+                try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (!line.startsWith("data:")) {
+                            continue;
+                        }
+                        String data = line.substring(5).trim();
+                        if ("[DONE]".equals(data)) {
+                            break;
+                        }
+                        started.set(true);
+                        onData.accept(data);
+                    }
+                }
+                return null;
+            })), started::get);
+    }
+
+    private HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(apiKey);
+        return headers;
+    }
+
+    /**
+     * 재시도 가능한 오류(429/5xx, 연결 오류)에 대해 백오프 후 재시도
+     */
+    private <T> T withRetries(Supplier<T> call, BooleanSupplier partiallyDelivered) {
+        for (int attempt = 0; ; attempt++) {
+            long delayMillis;
+            try {
+                return call.get();
+            } catch (HttpStatusCodeException e) {
+                if (!RETRYABLE_STATUSES.contains(e.getStatusCode().value()) || attempt >= maxRetries) {
+                    throw e;
+                }
+                delayMillis = backoffMillis(e.getResponseHeaders(), attempt);
+                log.warn("OpenAI API 응답 오류, 재시도 예정: status={}, attempt={}, delayMs={}",
+                    e.getStatusCode().value(), attempt + 1, delayMillis);
+            } catch (ResourceAccessException e) {
+                if (attempt >= maxRetries || partiallyDelivered.getAsBoolean()) {
+                    throw e;
+                }
+                delayMillis = backoffMillis(null, attempt);
+                log.warn("OpenAI API 연결 오류, 재시도 예정: attempt={}, delayMs={}", attempt + 1, delayMillis);
+            }
+            sleep(delayMillis);
+        }
+    }
+
+    /**
+     * 전체 인스턴스 공유 한도(우선순위 레인별)를 먼저 확보한 뒤 인스턴스 로컬 한도를 확보
+     * 백그라운드 호출이 공유 한도를 기다리는 동안 로컬 허용량을 점유해 사용자 요청을 막지 않도록 순서를 고정
+     */
+    private <T> T executeWithPermit(Supplier<T> call) {
+        LlmConcurrencyGovernor.Lease lease = governor.acquire(LlmPriority.current());
+        try {
+            acquirePermit();
+            try {
+                LlmCallMeter.record();
+                long start = System.nanoTime();
+                try {
+                    T result = call.get();
+                    successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    return result;
+                } catch (RuntimeException e) {
+                    failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    throw e;
+                }
+            } finally {
+                permits.release();
+            }
+        } finally {
+            lease.close();
+        }
+    }
+
+    private void acquirePermit() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("OpenAI 동시 호출 한도를 기다리다 시간이 초과되었습니다.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("OpenAI 호출 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 재시도 대기 시간 계산
+     * Retry-After, x-ratelimit-reset-* 헤더를 우선 사용하고 없으면 지터를 포함한 지수 백오프
+     */
+    private long backoffMillis(HttpHeaders headers, int attempt) {
+        if (headers != null) {
+            long hinted = Math.max(
+                parseRetryAfter(headers.getFirst(HttpHeaders.RETRY_AFTER)),
+                Math.max(parseResetDuration(headers.getFirst("x-ratelimit-reset-requests")),
+                    parseResetDuration(headers.getFirst("x-ratelimit-reset-tokens"))));
+            if (hinted > 0) {
+                return Math.min(hinted, maxBackoffMillis);
+            }
+        }
+
+        long exponential = BASE_BACKOFF_MILLIS << Math.min(attempt, 10);
+        long jitter = ThreadLocalRandom.current().nextLong(BASE_BACKOFF_MILLIS);
+        return Math.min(exponential + jitter, maxBackoffMillis);
+    }
+
+    /**
+     * Retry-After 헤더 파싱 (초 단위 또는 HTTP-date)
+     */
+    private long parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        try {
+            return (long) (Double.parseDouble(value.trim()) * 1000);
+        } catch (NumberFormatException ignored) {
+            // HTTP-date 형식 처리
+        }
+        try {
+            ZonedDateTime retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt).toMillis());
+        } catch (DateTimeParseException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * x-ratelimit-reset-* 헤더 파싱 (예: "20ms", "1.5s", "6m0s")
+     */
+    private long parseResetDuration(String value) {
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        Matcher matcher = RESET_DURATION_PART.matcher(value.trim());
+        double millis = 0;
+        while (matcher.find()) {
+            double amount = Double.parseDouble(matcher.group(1));
+            millis += switch (matcher.group(2)) {
+                case "ms" -> amount;
+                case "s" -> amount * 1000;
+                case "m" -> amount * 60_000;
+                default -> amount * 3_600_000;
+            };
+        }
+        return (long) millis;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("OpenAI 재시도 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.ktds.hi.analytics.infra.gateway;
 
+import com.ktds.hi.analytics.biz.domain.OrderDailyRollup;
 import com.ktds.hi.analytics.biz.domain.OrderStatistics;
+import com.ktds.hi.analytics.biz.service.OrderAggregator;
 import com.ktds.hi.analytics.biz.usecase.out.OrderDataPort;
 import com.ktds.hi.analytics.infra.dto.OrderListResponse;
 import com.ktds.hi.analytics.infra.dto.OrderResponse;
@@ -15,14 +17,14 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
 
 /**
  * 주문 데이터 어댑터 클래스
@@ -33,6 +35,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class OrderDataAdapter implements OrderDataPort {
     
+    private static final int POPULAR_MENU_LIMIT = 4;
+
     private final RestTemplate restTemplate;
     
     @Value("${external.services.store}")
@@ -43,34 +47,12 @@ public class OrderDataAdapter implements OrderDataPort {
         log.info("주문 통계 조회: storeId={}, period={} ~ {}", storeId, startDate, endDate);
         
         try {
+            // OrderListResponse를 OrderStatistics로 변환
+            OrderStatistics statistics = convertToOrderStatistics(fetchOrders(storeId, startDate, endDate));
 
-            // LocalDate를 LocalDateTime으로 변환 (시작일은 00:00:00, 종료일은 23:59:59)
-            LocalDateTime startDateTime = startDate.atStartOfDay();
-            LocalDateTime endDateTime = endDate.atTime(23, 59, 59);
-
-            String url = String.format("%s/api/stores/orders/store/%d/period?startDate=%s&endDate=%s",
-                storeServiceUrl, storeId, startDateTime, endDateTime);
-
-
-            // ParameterizedTypeReference를 사용하여 제네릭 타입 안전하게 파싱
-            ParameterizedTypeReference<SuccessResponse<OrderListResponse>> responseType =
-                new ParameterizedTypeReference<SuccessResponse<OrderListResponse>>() {};
-
-            ResponseEntity<SuccessResponse<OrderListResponse>> responseEntity =
-                restTemplate.exchange(url, HttpMethod.GET, null, responseType);
-
-            SuccessResponse<OrderListResponse> successResponse = responseEntity.getBody();
-
-            if (successResponse != null && successResponse.isSuccess() && successResponse.getData() != null) {
-                OrderListResponse orderListResponse = successResponse.getData();
-
-                // OrderListResponse를 OrderStatistics로 변환
-                OrderStatistics statistics = convertToOrderStatistics(orderListResponse);
-
-                log.info("주문 통계 조회 완료: storeId={}, totalOrders={}",
-                    storeId, statistics.getTotalOrders());
-                return statistics;
-            }
+            log.info("주문 통계 조회 완료: storeId={}, totalOrders={}",
+                storeId, statistics.getTotalOrders());
+            return statistics;
             
         } catch (Exception e) {
             log.error("주문 통계 조회 실패: storeId={}", storeId, e);
@@ -80,131 +62,63 @@ public class OrderDataAdapter implements OrderDataPort {
         return createDummyOrderStatistics(storeId);
     }
 
-    /**
-     * OrderListResponse를 OrderStatistics로 변환
-     */
-    private OrderStatistics convertToOrderStatistics(OrderListResponse orderListResponse) {
-        List<OrderResponse> orders = orderListResponse.getOrders();
+    @Override
+    public List<OrderDailyRollup> getDailyOrderRollups(Long storeId, LocalDate startDate, LocalDate endDate) {
+        log.info("일별 주문 집계 조회: storeId={}, period={} ~ {}", storeId, startDate, endDate);
 
-        if (orders == null || orders.isEmpty()) {
-            return createEmptyOrderStatistics();
+        List<OrderResponse> orders = fetchOrders(storeId, startDate, endDate).getOrders();
+        Map<LocalDate, OrderAggregator> aggregators = new TreeMap<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            aggregators.put(date, new OrderAggregator());
         }
 
-        // 총 주문 수
-        int totalOrders = orders.size();
-
-        // 총 매출 계산
-        BigDecimal totalRevenue = orders.stream()
-            .map(OrderResponse::getOrderAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 평균 주문 금액 계산
-        double averageOrderValue = totalRevenue.doubleValue() / totalOrders;
-
-        // 시간대별 주문 분석 (피크 시간 계산)
-        Map<Integer, Long> hourlyOrderCount = orders.stream()
-            .collect(Collectors.groupingBy(
-                order -> order.getOrderDate().getHour(),
-                Collectors.counting()
-            ));
-
-        int peakHour = hourlyOrderCount.entrySet().stream()
-            .max(Map.Entry.comparingByValue())
-            .map(Map.Entry::getKey)
-            .orElse(12); // 기본값 12시
-
-        // 연령대별 분포 계산
-        Map<String, Integer> ageDistribution = calculateCustomerAgeDistribution(orders);
-
-        //메뉴명 매핑
-        Map<Long, String> menuIdToName = orders.stream()
-            .collect(Collectors.toMap(
-                OrderResponse::getMenuId,
-                OrderResponse::getMenuName,
-                (existing, replacement) -> existing // 중복시 기존값 유지
-            ));
-
-        // 인기 메뉴 계산 (메뉴ID별 주문 횟수) - 실제로는 메뉴명을 가져와야 하지만 임시로 메뉴ID 사용
-        List<String> popularMenus = orders.stream()
-            .collect(Collectors.groupingBy(
-                OrderResponse::getMenuId,
-                Collectors.counting()
-            ))
-            .entrySet().stream()
-            .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
-            .limit(4)
-            .map(entry -> menuIdToName.get(entry.getKey())) // 실제로는 메뉴명으로 변환 필요
-            .collect(Collectors.toList());
+        if (orders != null) {
+            for (OrderResponse order : orders) {
+                if (order.getOrderDate() == null) {
+                    continue;
+                }
+                OrderAggregator aggregator = aggregators.get(order.getOrderDate().toLocalDate());
+                if (aggregator != null) {
+                    aggregator.add(order);
+                }
+            }
+        }
 
-        return OrderStatistics.builder()
-            .totalOrders(totalOrders)
-            .totalRevenue(totalRevenue.longValue())
-            .averageOrderValue(averageOrderValue)
-            .peakHour(peakHour)
-            .popularMenus(popularMenus)
-            .customerAgeDistribution(ageDistribution)
-            .build();
+        List<OrderDailyRollup> rollups = new ArrayList<>(aggregators.size());
+        aggregators.forEach((date, aggregator) -> rollups.add(aggregator.toDailyRollup(storeId, date)));
+        return rollups;
     }
 
     /**
-     * 연령대별 분포 계산
+     * 주문 서비스에서 기간 내 주문 목록 조회
      */
-    private Map<String, Integer> calculateCustomerAgeDistribution(List<OrderResponse> orders) {
-        Map<String, Long> ageGroupCount = orders.stream()
-            .collect(Collectors.groupingBy(
-                order -> getAgeGroup(order.getCustomerAge()),
-                Collectors.counting()
-            ));
+    private OrderListResponse fetchOrders(Long storeId, LocalDate startDate, LocalDate endDate) {
+        // LocalDate를 LocalDateTime으로 변환 (시작일은 00:00:00, 종료일은 23:59:59)
+        LocalDateTime startDateTime = startDate.atStartOfDay();
+        LocalDateTime endDateTime = endDate.atTime(23, 59, 59);
 
-        // Long을 Integer로 변환
-        Map<String, Integer> result = new HashMap<>();
-        ageGroupCount.forEach((key, value) -> result.put(key, value.intValue()));
+        String url = String.format("%s/api/stores/orders/store/%d/period?startDate=%s&endDate=%s",
+            storeServiceUrl, storeId, startDateTime, endDateTime);
 
-        return result;
-    }
+        // ParameterizedTypeReference를 사용하여 제네릭 타입 안전하게 파싱
+        ParameterizedTypeReference<SuccessResponse<OrderListResponse>> responseType =
+            new ParameterizedTypeReference<SuccessResponse<OrderListResponse>>() {};
 
-    /**
-     * 연령대별 분포 계산
-     */
-    private Map<String, Integer> calculateAgeDistribution(List<OrderResponse> orders) {
-        Map<String, Long> ageGroupCount = orders.stream()
-            .collect(Collectors.groupingBy(
-                order -> getAgeGroup(order.getCustomerAge()),
-                Collectors.counting()
-            ));
+        ResponseEntity<SuccessResponse<OrderListResponse>> responseEntity =
+            restTemplate.exchange(url, HttpMethod.GET, null, responseType);
 
-        // Long을 Integer로 변환
-        Map<String, Integer> result = new HashMap<>();
-        ageGroupCount.forEach((key, value) -> result.put(key, value.intValue()));
-
-        return result;
-    }
-
-    /**
-     * 나이를 연령대 그룹으로 변환
-     */
-    private String getAgeGroup(Integer age) {
-        if (age == null) return "미분류";
-        if (age < 20) return "10대";
-        if (age < 30) return "20대";
-        if (age < 40) return "30대";
-        if (age < 50) return "40대";
-        if (age < 60) return "50대";
-        return "60대+";
+        SuccessResponse<OrderListResponse> successResponse = responseEntity.getBody();
+        if (successResponse == null || !successResponse.isSuccess() || successResponse.getData() == null) {
+            throw new IllegalStateException("주문 목록 조회 응답이 올바르지 않습니다: storeId=" + storeId);
+        }
+        return successResponse.getData();
     }
 
     /**
-     * 빈 주문 통계 생성
+     * OrderListResponse를 OrderStatistics로 변환 (주문 목록 한 번 순회)
      */
-    private OrderStatistics createEmptyOrderStatistics() {
-        return OrderStatistics.builder()
-            .totalOrders(0)
-            .totalRevenue(0L)
-            .averageOrderValue(0.0)
-            .peakHour(12)
-            .popularMenus(Arrays.asList())
-            .customerAgeDistribution(new HashMap<>())
-            .build();
+    private OrderStatistics convertToOrderStatistics(OrderListResponse orderListResponse) {
+        return OrderAggregator.of(orderListResponse.getOrders()).toOrderStatistics(POPULAR_MENU_LIMIT);
     }
     
     @Override
@@ -0,0 +1,123 @@
+package com.ktds.hi.analytics.infra.gateway;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktds.hi.analytics.biz.domain.OrderDailyRollup;
+import com.ktds.hi.analytics.biz.usecase.out.OrderRollupPort;
+import com.ktds.hi.analytics.infra.gateway.entity.StatisticsEntity;
+import com.ktds.hi.analytics.infra.gateway.repository.StatisticsJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 일별 주문 집계 리포지토리 어댑터 클래스
+ * OrderRollup Port를 구현하여 order_statistics 테이블에 매장별 하루 한 행으로 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderRollupRepositoryAdapter implements OrderRollupPort {
+
+    private final StatisticsJpaRepository statisticsJpaRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public List<OrderDailyRollup> findDailyRollups(Long storeId, LocalDate startDate, LocalDate endDate) {
+        return statisticsJpaRepository.findByStoreIdAndAnalysisDateBetween(storeId, startDate, endDate)
+                .stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 호출한 쪽의 트랜잭션과 분리하여 저장
+     * 다른 인스턴스가 같은 날을 먼저 저장한 경우 예외가 발생해도 호출한 쪽의 트랜잭션에 영향 없음
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveDailyRollups(List<OrderDailyRollup> rollups) {
+        if (rollups.isEmpty()) {
+            return;
+        }
+        statisticsJpaRepository.saveAll(rollups.stream()
+                .map(this::toEntity)
+                .collect(Collectors.toList()));
+        log.debug("일별 주문 집계 저장: storeId={}, days={}", rollups.get(0).getStoreId(), rollups.size());
+    }
+
+    /**
+     * Entity를 Domain으로 변환
+     */
+    private OrderDailyRollup toDomain(StatisticsEntity entity) {
+        Map<Integer, Integer> hourlyOrderCounts = new HashMap<>();
+        parseCounts(entity.getTimeStatisticsJson())
+                .forEach((hour, count) -> hourlyOrderCounts.put(Integer.valueOf(hour), count));
+
+        return OrderDailyRollup.builder()
+                .storeId(entity.getStoreId())
+                .date(entity.getAnalysisDate())
+                .totalOrders(entity.getTotalOrders() != null ? entity.getTotalOrders() : 0)
+                .totalRevenue(entity.getTotalRevenue() != null ? entity.getTotalRevenue() : BigDecimal.ZERO)
+                .hourlyOrderCounts(hourlyOrderCounts)
+                .menuOrderCounts(parseCounts(entity.getMenuPopularityJson()))
+                .ageDistribution(parseCounts(entity.getAgeStatisticsJson()))
+                .genderDistribution(parseCounts(entity.getGenderStatisticsJson()))
+                .build();
+    }
+
+    /**
+     * Domain을 Entity로 변환
+     */
+    private StatisticsEntity toEntity(OrderDailyRollup domain) {
+        BigDecimal avgOrderAmount = domain.getTotalOrders() > 0
+                ? domain.getTotalRevenue().divide(BigDecimal.valueOf(domain.getTotalOrders()), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+
+        return StatisticsEntity.builder()
+                .storeId(domain.getStoreId())
+                .analysisDate(domain.getDate())
+                .totalOrders(domain.getTotalOrders())
+                .totalRevenue(domain.getTotalRevenue())
+                .avgOrderAmount(avgOrderAmount)
+                .peakHour(domain.getPeakHour())
+                .timeStatisticsJson(toJson(domain.getHourlyOrderCounts()))
+                .menuPopularityJson(toJson(domain.getMenuOrderCounts()))
+                .ageStatisticsJson(toJson(domain.getAgeDistribution()))
+                .genderStatisticsJson(toJson(domain.getGenderDistribution()))
+                .build();
+    }
+
+    private Map<String, Integer> parseCounts(String json) {
+        if (json == null || json.isBlank()) {
+            return new HashMap<>();
+        }
+
+        try {
+            return objectMapper.readValue(json, new TypeReference<HashMap<String, Integer>>() {});
+        } catch (JsonProcessingException e) {
+            log.warn("JSON 파싱 실패: {}", json, e);
+            return new HashMap<>();
+        }
+    }
+
+    private String toJson(Map<?, Integer> counts) {
+        try {
+            return objectMapper.writeValueAsString(counts);
+        } catch (JsonProcessingException e) {
+            log.warn("JSON 직렬화 실패: {}", counts, e);
+            return "{}";
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.ktds.hi.analytics.infra.gateway;
+
+import com.ktds.hi.analytics.biz.domain.AspectDailyCount;
+import com.ktds.hi.analytics.biz.domain.AspectMention;
+import com.ktds.hi.analytics.biz.domain.ReviewAspect;
+import com.ktds.hi.analytics.biz.domain.ReviewAspectMentions;
+import com.ktds.hi.analytics.biz.domain.SentimentType;
+import com.ktds.hi.analytics.biz.usecase.out.ReviewAspectPort;
+import com.ktds.hi.analytics.infra.gateway.entity.ReviewAspectDailyEntity;
+import com.ktds.hi.analytics.infra.gateway.entity.ReviewAspectMentionEntity;
+import com.ktds.hi.analytics.infra.gateway.repository.ReviewAspectDailyJpaRepository;
+import com.ktds.hi.analytics.infra.gateway.repository.ReviewAspectMentionJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 리뷰 항목 언급 집계 리포지토리 어댑터 클래스
+ * 리뷰별 언급 기록과 일별 언급 수를 같은 트랜잭션에서 갱신
+ * 리뷰 한 건의 반영 실패가 호출한 쪽 트랜잭션에 영향을 주지 않도록 별도 트랜잭션으로 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewAspectRepositoryAdapter implements ReviewAspectPort {
+
+    private static final String MENTION_DELIMITER = ",";
+    private static final String FIELD_DELIMITER = ":";
+
+    private final ReviewAspectMentionJpaRepository reviewAspectMentionJpaRepository;
+    private final ReviewAspectDailyJpaRepository reviewAspectDailyJpaRepository;
+
+    @Override
+    public Map<Long, String> findContentHashes(Collection<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return Map.of();
+        }
+        return reviewAspectMentionJpaRepository.findByReviewIdIn(reviewIds)
+                .stream()
+                .collect(Collectors.toMap(ReviewAspectMentionEntity::getReviewId, ReviewAspectMentionEntity::getContentHash));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean record(ReviewAspectMentions mentions) {
+        Optional<ReviewAspectMentionEntity> existing = reviewAspectMentionJpaRepository.findForUpdate(mentions.getReviewId());
+        if (existing.isPresent() && existing.get().getContentHash().equals(mentions.getContentHash())) {
+            return false;
+        }
+
+        // 내용이 바뀐 리뷰는 이전 언급을 먼저 제외
+        existing.ifPresent(previous -> addCounts(previous.getStoreId(), previous.getReviewDate(),
+                decode(previous.getMentions()), -1));
+
+        reviewAspectMentionJpaRepository.save(ReviewAspectMentionEntity.builder()
+                .reviewId(mentions.getReviewId())
+                .storeId(mentions.getStoreId())
+                .reviewDate(mentions.getReviewDate())
+                .contentHash(mentions.getContentHash())
+                .mentions(encode(mentions.getMentions()))
+                .createdAt(existing.map(ReviewAspectMentionEntity::getCreatedAt).orElse(null))
+                .build());
+        addCounts(mentions.getStoreId(), mentions.getReviewDate(), mentions.getMentions(), 1);
+        return true;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean remove(Long reviewId) {
+        Optional<ReviewAspectMentionEntity> existing = reviewAspectMentionJpaRepository.findForUpdate(reviewId);
+        if (existing.isEmpty()) {
+            return false;
+        }
+
+        ReviewAspectMentionEntity previous = existing.get();
+        addCounts(previous.getStoreId(), previous.getReviewDate(), decode(previous.getMentions()), -1);
+        reviewAspectMentionJpaRepository.delete(previous);
+        return true;
+    }
+
+    @Override
+    public List<AspectDailyCount> findDailyCounts(Long storeId, LocalDate startDate, LocalDate endDate) {
+        return reviewAspectDailyJpaRepository.findByStoreIdAndReviewDateBetweenOrderByReviewDateAsc(storeId, startDate, endDate)
+                .stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    private void addCounts(Long storeId, LocalDate reviewDate, List<AspectMention> mentions, int delta) {
+        for (AspectMention mention : mentions) {
+            reviewAspectDailyJpaRepository.addCount(storeId, reviewDate,
+                    mention.getAspect().name(), mention.getSentiment().name(), delta);
+        }
+    }
+
+    /**
+     * 언급 항목 목록을 문자열로 변환 (예: TASTE:POSITIVE,PRICE:NEGATIVE)
+     */
+    private String encode(List<AspectMention> mentions) {
+        return mentions.stream()
+                .map(mention -> mention.getAspect().name() + FIELD_DELIMITER + mention.getSentiment().name())
+                .collect(Collectors.joining(MENTION_DELIMITER));
+    }
+
+    private List<AspectMention> decode(String mentions) {
+        List<AspectMention> decoded = new ArrayList<>();
+        if (mentions == null || mentions.isEmpty()) {
+            return decoded;
+        }
+        for (String mention : mentions.split(MENTION_DELIMITER)) {
+            String[] fields = mention.split(FIELD_DELIMITER);
+            try {
+                decoded.add(new AspectMention(ReviewAspect.valueOf(fields[0]), SentimentType.valueOf(fields[1])));
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                log.warn("리뷰 항목 언급 형식 오류: {}", mention);
+            }
+        }
+        return decoded;
+    }
+
+    /**
+     * Entity를 Domain으로 변환
+     */
+    private AspectDailyCount toDomain(ReviewAspectDailyEntity entity) {
+        return AspectDailyCount.builder()
+                .storeId(entity.getStoreId())
+                .reviewDate(entity.getReviewDate())
+                .aspect(entity.getAspect())
+                .sentiment(entity.getSentiment())
+                .mentionCount(entity.getMentionCount())
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package com.ktds.hi.analytics.infra.gateway;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktds.hi.analytics.biz.domain.Review;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 리뷰 서비스 응답 스트리밍 디코더 클래스
+ * 리뷰 목록 JSON 배열을 토큰 단위로 읽어 분석에 필요한 필드(reviewId, rating, content, createdAt)만 Review로 변환
+ * 그 밖의 필드(닉네임, 이미지 URL 등)는 객체로 만들지 않고 건너뜀
+ */
+@Slf4j
+@Component
+public class ReviewPageDecoder {
+
+    private final JsonFactory jsonFactory;
+
+    public ReviewPageDecoder(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * 리뷰 목록 디코딩
+     * 내용이 없는 리뷰도 포함하여 응답 원소 수와 같은 크기의 목록 반환 (페이지 크기 판단용)
+     */
+    public List<Review> decodeReviews(InputStream body, Long storeId) throws IOException {
+        List<Review> reviews = new ArrayList<>();
+        if (body == null) {
+            return reviews;
+        }
+
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return reviews;
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                reviews.add(readReview(parser, storeId));
+            }
+        }
+        return reviews;
+    }
+
+    /**
+     * 리뷰 내용만 디코딩 (빈 내용 제외)
+     */
+    public List<String> decodeContents(InputStream body) throws IOException {
+        List<String> contents = new ArrayList<>();
+        for (Review review : decodeReviews(body, null)) {
+            if (review.getContent() != null && !review.getContent().trim().isEmpty()) {
+                contents.add(review.getContent());
+            }
+        }
+        return contents;
+    }
+
+    private Review readReview(JsonParser parser, Long storeId) throws IOException {
+        Long reviewId = null;
+        Integer rating = null;
+        String content = null;
+        LocalDateTime createdAt = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+
+            switch (field) {
+                case "reviewId" -> reviewId = value.isNumeric() ? parser.getLongValue() : null;
+                case "rating" -> rating = value.isNumeric() ? parser.getIntValue() : null;
+                case "content" -> content = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                case "createdAt" -> createdAt = readDateTime(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+
+        return Review.builder()
+            .reviewId(reviewId)
+            .storeId(storeId)
+            .rating(rating)
+            .content(content)
+            .createdAt(createdAt)
+            .build();
+    }
+
+    /**
+     * 작성일시 해석
+     * 문자열과 숫자 배열([yyyy, MM, dd, HH, mm, ss, nanos]) 형식 지원, 해석할 수 없으면 현재 시간 사용
+     */
+    private LocalDateTime readDateTime(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_STRING) {
+            String text = parser.getText();
+            if (text.isBlank()) {
+                return null;
+            }
+            LocalDateTime parsed = LenientDateTimeParser.parse(text);
+            if (parsed != null) {
+                return parsed;
+            }
+            log.warn("리뷰 작성일시 해석 실패, 현재 시간 사용: {}", text);
+            return LocalDateTime.now();
+        }
+
+        if (value == JsonToken.START_ARRAY) {
+            int[] parts = new int[7];
+            int count = 0;
+            boolean numeric = true;
+            for (JsonToken token = parser.nextToken(); token != null && token != JsonToken.END_ARRAY;
+                 token = parser.nextToken()) {
+                if (token == JsonToken.VALUE_NUMBER_INT && count < parts.length) {
+                    parts[count++] = parser.getIntValue();
+                } else {
+                    numeric = numeric && token == JsonToken.VALUE_NUMBER_INT;
+                    parser.skipChildren();
+                }
+            }
+            if (numeric && count >= 5) {
+                LocalDateTime parsed = LenientDateTimeParser.of(
+                    parts[0], parts[1], parts[2], parts[3], parts[4], parts[5], parts[6]);
+                if (parsed != null) {
+                    return parsed;
+                }
+            }
+            log.warn("리뷰 작성일시 해석 실패, 현재 시간 사용");
+            return LocalDateTime.now();
+        }
+
+        parser.skipChildren();
+        return null;
+    }
+}
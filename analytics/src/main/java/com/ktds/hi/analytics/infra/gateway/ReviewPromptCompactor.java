@@ -0,0 +1,244 @@
+package com.ktds.hi.analytics.infra.gateway;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 리뷰 프롬프트 압축 클래스
+ * AI 호출 전 리뷰 텍스트를 정규화하고, 동일/유사 리뷰를 "(×N)" 표기 한 줄로 합치며,
+ * 지나치게 긴 리뷰는 토큰 예산에 맞게 자름
+ */
+@Slf4j
+@Component
+public class ReviewPromptCompactor {
+
+    private static final Pattern REPEATED_CHARS = Pattern.compile("(.)\\1{3,}");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]");
+    private static final Pattern COUNT_SUFFIX = Pattern.compile(" \\(×(\\d+)\\)$");
+    private static final String TRUNCATION_MARK = "…";
+    private static final int SHINGLE_SIZE = 3;
+    private static final int MIN_NEAR_DUPLICATE_LENGTH = 10;
+    private static final int MAX_NEAR_DUPLICATE_CANDIDATES = 200;
+
+    private final boolean enabled;
+    private final int maxReviewTokens;
+    private final double nearDuplicateThreshold;
+    private final Counter savedTokensCounter;
+
+    public ReviewPromptCompactor(MeterRegistry meterRegistry,
+                                 @Value("${ai-api.openai.compaction.enabled:true}") boolean enabled,
+                                 @Value("${ai-api.openai.compaction.max-review-tokens:200}") int maxReviewTokens,
+                                 @Value("${ai-api.openai.compaction.near-duplicate-threshold:0.85}") double nearDuplicateThreshold) {
+        this.enabled = enabled;
+        this.maxReviewTokens = maxReviewTokens;
+        this.nearDuplicateThreshold = nearDuplicateThreshold;
+        this.savedTokensCounter = Counter.builder("llm.prompt.tokens.saved")
+            .description("프롬프트 압축으로 절감한 추정 토큰 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 리뷰 목록 압축
+     * 처음 등장한 순서를 유지하며, 합쳐진 리뷰는 "리뷰 내용 (×N)" 형태로 반환
+     */
+    public List<String> compact(List<String> reviews) {
+        if (!enabled || reviews.isEmpty()) {
+            return reviews;
+        }
+
+        Map<String, Group> groups = new LinkedHashMap<>();
+        List<Group> nearDuplicateCandidates = new ArrayList<>();
+        int originalTokens = 0;
+
+        for (String review : reviews) {
+            if (review == null || review.isBlank()) {
+                continue;
+            }
+            originalTokens += TokenEstimator.estimateLine(review);
+
+            String text = normalize(review);
+            String key = duplicateKey(text);
+
+            // 1. 정규화 기준 동일 리뷰
+            Group group = groups.get(key);
+
+            // 2. 문자 n-gram 유사도 기준 유사 리뷰
+            if (group == null && key.length() >= MIN_NEAR_DUPLICATE_LENGTH) {
+                Set<String> shingles = shingles(key);
+                group = findNearDuplicate(nearDuplicateCandidates, key.length(), shingles);
+                if (group == null) {
+                    group = new Group(truncate(text), key.length(), shingles);
+                    nearDuplicateCandidates.add(group);
+                    if (nearDuplicateCandidates.size() > MAX_NEAR_DUPLICATE_CANDIDATES) {
+                        nearDuplicateCandidates.remove(0);
+                    }
+                }
+                groups.put(key, group);
+            } else if (group == null) {
+                group = new Group(truncate(text), key.length(), Set.of());
+                groups.put(key, group);
+            }
+            group.count++;
+        }
+
+        List<String> lines = new ArrayList<>();
+        int compactedTokens = 0;
+        for (Group group : identityOrdered(groups).keySet()) {
+            String line = group.count > 1 ? group.text + " (×" + group.count + ")" : group.text;
+            lines.add(line);
+            compactedTokens += TokenEstimator.estimateLine(line);
+        }
+
+        int savedTokens = Math.max(0, originalTokens - compactedTokens);
+        savedTokensCounter.increment(savedTokens);
+        log.info("리뷰 프롬프트 압축: 리뷰 {}개 -> {}줄, 추정 토큰 {} -> {} (절감 {})",
+            reviews.size(), lines.size(), originalTokens, compactedTokens, savedTokens);
+
+        return lines;
+    }
+
+    /**
+     * 압축된 한 줄이 나타내는 원본 리뷰 수
+     */
+    public static int weightOf(String line) {
+        Matcher matcher = COUNT_SUFFIX.matcher(line);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : 1;
+    }
+
+    /**
+     * 압축된 목록이 나타내는 원본 리뷰 수
+     */
+    public static int totalWeight(List<String> lines) {
+        return lines.stream().mapToInt(ReviewPromptCompactor::weightOf).sum();
+    }
+
+    /**
+     * 유니코드 정규화, 공백 정리, 4회 이상 반복 문자 축약 (예: ㅋㅋㅋㅋㅋ -> ㅋㅋㅋ)
+     */
+    private String normalize(String review) {
+        String text = Normalizer.normalize(review, Normalizer.Form.NFKC);
+        text = WHITESPACE.matcher(text).replaceAll(" ").strip();
+        return REPEATED_CHARS.matcher(text).replaceAll("$1$1$1");
+    }
+
+    /**
+     * 동일 리뷰 판단 키 (문장부호, 이모지, 공백 제외)
+     * 이모지만 있는 리뷰는 사용된 이모지 종류로 판단
+     */
+    private String duplicateKey(String text) {
+        String key = NON_WORD.matcher(text.toLowerCase(Locale.ROOT)).replaceAll("");
+        if (!key.isEmpty()) {
+            return key;
+        }
+        StringBuilder symbols = new StringBuilder();
+        text.codePoints()
+            .filter(cp -> !Character.isWhitespace(cp))
+            .distinct()
+            .sorted()
+            .forEach(symbols::appendCodePoint);
+        return symbols.toString();
+    }
+
+    /**
+     * 토큰 예산을 넘는 리뷰를 예산 안에서 자름 (TokenEstimator와 같은 기준으로 계산)
+     */
+    private String truncate(String text) {
+        if (TokenEstimator.estimate(text) <= maxReviewTokens) {
+            return text;
+        }
+        int asciiChars = 0;
+        int otherChars = 0;
+        int end = 0;
+        while (end < text.length()) {
+            int codePoint = text.codePointAt(end);
+            int nextAscii = asciiChars;
+            int nextOther = otherChars;
+            if (!Character.isWhitespace(codePoint)) {
+                if (codePoint < 0x80) {
+                    nextAscii++;
+                } else {
+                    nextOther++;
+                }
+            }
+            if ((nextAscii + 3) / 4 + nextOther > maxReviewTokens) {
+                break;
+            }
+            asciiChars = nextAscii;
+            otherChars = nextOther;
+            end += Character.charCount(codePoint);
+        }
+        return text.substring(0, end).strip() + TRUNCATION_MARK;
+    }
+
+    private Group findNearDuplicate(List<Group> candidates, int length, Set<String> shingles) {
+        for (Group candidate : candidates) {
+            if (Math.abs(candidate.keyLength - length) > length * (1 - nearDuplicateThreshold)) {
+                continue;
+            }
+            if (jaccard(candidate.shingles, shingles) >= nearDuplicateThreshold) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private Set<String> shingles(String key) {
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i + SHINGLE_SIZE <= key.length(); i++) {
+            result.add(key.substring(i, i + SHINGLE_SIZE));
+        }
+        return result;
+    }
+
+    private double jaccard(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        int intersection = 0;
+        for (String shingle : a) {
+            if (b.contains(shingle)) {
+                intersection++;
+            }
+        }
+        return (double) intersection / (a.size() + b.size() - intersection);
+    }
+
+    /**
+     * 여러 키가 같은 그룹을 가리킬 수 있으므로 그룹 단위로 첫 등장 순서 유지
+     */
+    private Map<Group, Boolean> identityOrdered(Map<String, Group> groups) {
+        Map<Group, Boolean> ordered = new LinkedHashMap<>();
+        for (Group group : groups.values()) {
+            ordered.putIfAbsent(group, Boolean.TRUE);
+        }
+        return ordered;
+    }
+
+    private static final class Group {
+        private final String text;
+        private final int keyLength;
+        private final Set<String> shingles;
+        private int count;
+
+        private Group(String text, int keyLength, Set<String> shingles) {
+            this.text = text;
+            this.keyLength = keyLength;
+            this.shingles = shingles;
+        }
+    }
+}
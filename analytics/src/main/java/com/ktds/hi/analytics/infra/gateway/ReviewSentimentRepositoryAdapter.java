@@ -0,0 +1,79 @@
+package com.ktds.hi.analytics.infra.gateway;
+
+import com.ktds.hi.analytics.biz.domain.ReviewSentiment;
+import com.ktds.hi.analytics.biz.usecase.out.ReviewSentimentPort;
+import com.ktds.hi.analytics.infra.gateway.entity.ReviewSentimentEntity;
+import com.ktds.hi.analytics.infra.gateway.repository.ReviewSentimentJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 리뷰 감정 분석 결과 리포지토리 어댑터 클래스
+ * ReviewSentiment Port를 구현하여 데이터 영속성 기능을 제공
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewSentimentRepositoryAdapter implements ReviewSentimentPort {
+
+    private final ReviewSentimentJpaRepository reviewSentimentJpaRepository;
+
+    @Override
+    public List<ReviewSentiment> findByReviewIds(Collection<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return List.of();
+        }
+        return reviewSentimentJpaRepository.findByReviewIdIn(reviewIds)
+                .stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 별도 트랜잭션으로 저장하여 저장 실패가 호출한 쪽 트랜잭션을 롤백 전용으로 만들지 않도록 함
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveAll(List<ReviewSentiment> sentiments) {
+        if (sentiments.isEmpty()) {
+            return;
+        }
+        reviewSentimentJpaRepository.saveAll(sentiments.stream()
+                .map(this::toEntity)
+                .collect(Collectors.toList()));
+        log.debug("리뷰 감정 분석 결과 저장: count={}", sentiments.size());
+    }
+
+    /**
+     * Entity를 Domain으로 변환
+     */
+    private ReviewSentiment toDomain(ReviewSentimentEntity entity) {
+        return ReviewSentiment.builder()
+                .reviewId(entity.getReviewId())
+                .storeId(entity.getStoreId())
+                .contentHash(entity.getContentHash())
+                .sentiment(entity.getSentiment())
+                .analyzedAt(entity.getAnalyzedAt())
+                .build();
+    }
+
+    /**
+     * Domain을 Entity로 변환
+     */
+    private ReviewSentimentEntity toEntity(ReviewSentiment domain) {
+        return ReviewSentimentEntity.builder()
+                .reviewId(domain.getReviewId())
+                .storeId(domain.getStoreId())
+                .contentHash(domain.getContentHash())
+                .sentiment(domain.getSentiment())
+                .analyzedAt(domain.getAnalyzedAt())
+                .build();
+    }
+}
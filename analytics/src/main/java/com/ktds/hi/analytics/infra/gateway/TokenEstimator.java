@@ -0,0 +1,47 @@
+package com.ktds.hi.analytics.infra.gateway;
+
+/**
+ * 프롬프트 토큰 수 추정 유틸리티
+ * 토크나이저 없이 문자 종류별 평균 비율로 토큰 수를 근사
+ * (영문/숫자 약 4자당 1토큰, 한글 등 비ASCII 문자 약 1자당 1토큰)
+ */
+public final class TokenEstimator {
+
+    private static final int ASCII_CHARS_PER_TOKEN = 4;
+    private static final int LINE_OVERHEAD_TOKENS = 2;
+
+    private TokenEstimator() {
+        // 유틸리티 클래스
+    }
+
+    /**
+     * 텍스트의 토큰 수 추정
+     */
+    public static int estimate(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+
+        int asciiChars = 0;
+        int otherChars = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (c < 0x80) {
+                asciiChars++;
+            } else if (!Character.isLowSurrogate(c)) {
+                otherChars++;
+            }
+        }
+        return (asciiChars + ASCII_CHARS_PER_TOKEN - 1) / ASCII_CHARS_PER_TOKEN + otherChars;
+    }
+
+    /**
+     * 목록 한 줄(번호, 줄바꿈 포함)로 프롬프트에 들어갈 때의 토큰 수 추정
+     */
+    public static int estimateLine(String text) {
+        return estimate(text) + LINE_OVERHEAD_TOKENS;
+    }
+}
@@ -31,7 +31,8 @@ import java.time.LocalDateTime;
         @Index(name = "idx_action_plan_store_id", columnList = "store_id"),
         @Index(name = "idx_action_plan_user_id", columnList = "user_id"),
         @Index(name = "idx_action_plan_status", columnList = "status"),
-        @Index(name = "idx_action_plan_created_at", columnList = "created_at")
+        @Index(name = "idx_action_plan_created_at", columnList = "created_at"),
+        @Index(name = "idx_action_plan_feedback_id", columnList = "feedback_id")
     })
 @Getter
 @Builder
@@ -0,0 +1,38 @@
+package com.ktds.hi.analytics.infra.gateway.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 매장별 최신 AI 피드백 엔티티
+ * AI 피드백 이력 중 매장의 현재 피드백을 가리킴 (이력 저장과 같은 트랜잭션에서 갱신)
+ */
+@Entity
+@Table(name = "ai_feedback_latest",
+    indexes = {
+        @Index(name = "idx_ai_feedback_latest_feedback_id", columnList = "feedback_id")
+    })
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiFeedbackLatestEntity {
+
+    @Id
+    @Column(name = "store_id")
+    private Long storeId;
+
+    @Column(name = "feedback_id", nullable = false)
+    private Long feedbackId;
+
+    @Column(name = "generated_at")
+    private LocalDateTime generatedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
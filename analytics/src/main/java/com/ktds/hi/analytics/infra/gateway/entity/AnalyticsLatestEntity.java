@@ -0,0 +1,35 @@
+package com.ktds.hi.analytics.infra.gateway.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 매장별 최신 분석 데이터 엔티티
+ * 분석 데이터 이력 중 매장의 현재 분석 데이터를 가리킴 (이력 저장과 같은 트랜잭션에서 갱신)
+ */
+@Entity
+@Table(name = "analytics_latest",
+    indexes = {
+        @Index(name = "idx_analytics_latest_analytics_id", columnList = "analytics_id")
+    })
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsLatestEntity {
+
+    @Id
+    @Column(name = "store_id")
+    private Long storeId;
+
+    @Column(name = "analytics_id", nullable = false)
+    private Long analyticsId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
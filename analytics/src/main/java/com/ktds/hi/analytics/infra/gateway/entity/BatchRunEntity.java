@@ -0,0 +1,56 @@
+package com.ktds.hi.analytics.infra.gateway.entity;
+
+import com.ktds.hi.analytics.biz.domain.BatchRunStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 야간 일괄 분석 실행 엔티티
+ * 기준일당 하나의 실행만 허용
+ */
+@Entity
+@Table(name = "analytics_batch_run",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_analytics_batch_run_date", columnNames = "batch_date")
+    })
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRunEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "batch_date", nullable = false)
+    private LocalDate batchDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private BatchRunStatus status;
+
+    @Column(name = "total_stores")
+    private Integer totalStores;
+
+    @Column(name = "completed_stores")
+    private Integer completedStores;
+
+    @Column(name = "failed_stores")
+    private Integer failedStores;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
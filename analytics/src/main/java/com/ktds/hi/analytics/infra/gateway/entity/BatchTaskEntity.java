@@ -0,0 +1,55 @@
+package com.ktds.hi.analytics.infra.gateway.entity;
+
+import com.ktds.hi.analytics.biz.domain.BatchTaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 야간 일괄 분석 매장별 작업 엔티티
+ * 실행별 매장 처리 상태를 기록하는 체크포인트
+ */
+@Entity
+@Table(name = "analytics_batch_task",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_analytics_batch_task_run_store", columnNames = {"run_id", "store_id"})
+    },
+    indexes = {
+        @Index(name = "idx_analytics_batch_task_run_status", columnList = "run_id, status")
+    })
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchTaskEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(name = "partition_no", nullable = false)
+    private Integer partitionNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private BatchTaskStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
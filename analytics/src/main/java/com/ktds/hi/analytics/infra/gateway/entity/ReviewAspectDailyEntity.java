@@ -0,0 +1,49 @@
+package com.ktds.hi.analytics.infra.gateway.entity;
+
+import com.ktds.hi.analytics.biz.domain.ReviewAspect;
+import com.ktds.hi.analytics.biz.domain.SentimentType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * 매장 일별 항목 언급 수 엔티티
+ * 매장, 리뷰 작성일, 항목, 감정별 언급 수를 저장
+ */
+@Entity
+@Table(name = "review_aspect_daily",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_review_aspect_daily",
+            columnNames = {"store_id", "review_date", "aspect", "sentiment"})
+    })
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewAspectDailyEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(name = "review_date", nullable = false)
+    private LocalDate reviewDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aspect", nullable = false, length = 20)
+    private ReviewAspect aspect;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sentiment", nullable = false, length = 20)
+    private SentimentType sentiment;
+
+    @Column(name = "mention_count", nullable = false)
+    private Integer mentionCount;
+}
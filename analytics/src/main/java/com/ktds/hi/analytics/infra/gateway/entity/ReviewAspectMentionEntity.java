@@ -0,0 +1,57 @@
+package com.ktds.hi.analytics.infra.gateway.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰별 항목 언급 엔티티
+ * 일별 집계에 반영한 리뷰와 언급 항목을 기록하여 중복 반영을 막고, 수정/삭제 시 이전 언급을 제외
+ */
+@Entity
+@Table(name = "review_aspect_mention",
+    indexes = {
+        @Index(name = "idx_review_aspect_mention_store_id", columnList = "store_id")
+    })
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class ReviewAspectMentionEntity {
+
+    @Id
+    @Column(name = "review_id")
+    private Long reviewId;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(name = "review_date", nullable = false)
+    private LocalDate reviewDate;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    /**
+     * 언급 항목 목록 (예: TASTE:POSITIVE,PRICE:NEGATIVE)
+     */
+    @Column(name = "mentions", nullable = false, length = 200)
+    private String mentions;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,55 @@
+package com.ktds.hi.analytics.infra.gateway.entity;
+
+import com.ktds.hi.analytics.biz.domain.SentimentType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰별 감정 분석 결과 엔티티
+ * 리뷰 ID와 내용 지문으로 이미 분석된 리뷰를 식별
+ */
+@Entity
+@Table(name = "review_sentiment",
+    indexes = {
+        @Index(name = "idx_review_sentiment_store_id", columnList = "store_id")
+    })
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class ReviewSentimentEntity {
+
+    @Id
+    @Column(name = "review_id")
+    private Long reviewId;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sentiment", nullable = false, length = 20)
+    private SentimentType sentiment;
+
+    @Column(name = "analyzed_at")
+    private LocalDateTime analyzedAt;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
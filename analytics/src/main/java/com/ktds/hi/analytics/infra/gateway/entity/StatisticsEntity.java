@@ -20,7 +20,9 @@ import java.util.Map;
  * 데이터베이스 order_statistics 테이블과 매핑되는 JPA 엔티티
  */
 @Entity
-@Table(name = "order_statistics")
+@Table(name = "order_statistics",
+        uniqueConstraints = @UniqueConstraint(name = "uk_order_statistics_store_date",
+                columnNames = {"store_id", "analysis_date"}))
 @Getter
 @Builder
 @NoArgsConstructor
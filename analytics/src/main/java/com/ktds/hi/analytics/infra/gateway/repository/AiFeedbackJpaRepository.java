@@ -2,6 +2,7 @@ package com.ktds.hi.analytics.infra.gateway.repository;
 
 import com.ktds.hi.analytics.infra.gateway.entity.AiFeedbackEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -28,6 +29,12 @@ public interface AiFeedbackJpaRepository extends JpaRepository<AiFeedbackEntity,
     @Query("SELECT af FROM AiFeedbackEntity af WHERE af.storeId = :storeId ORDER BY af.generatedAt DESC LIMIT 1")
     Optional<AiFeedbackEntity> findLatestByStoreId(@Param("storeId") Long storeId);
 
+    /**
+     * 매장별 최신 AI 피드백 테이블을 통해 현재 AI 피드백 조회
+     */
+    @Query("SELECT af FROM AiFeedbackEntity af, AiFeedbackLatestEntity l WHERE l.storeId = :storeId AND af.id = l.feedbackId")
+    Optional<AiFeedbackEntity> findCurrentByStoreId(@Param("storeId") Long storeId);
+
     /**
      * 특정 기간 이후 생성된 AI 피드백 조회
      */
@@ -45,4 +52,17 @@ public interface AiFeedbackJpaRepository extends JpaRepository<AiFeedbackEntity,
      */
     @Query("SELECT COUNT(af) FROM AiFeedbackEntity af WHERE af.storeId = :storeId")
     Long countByStoreId(@Param("storeId") Long storeId);
+
+    /**
+     * 보존 기간이 지난 AI 피드백 이력 삭제 (현재 피드백, 실행 계획이 참조하는 피드백 제외, 최대 limit건)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM ai_feedback WHERE id IN (" +
+                   "SELECT af.id FROM ai_feedback af " +
+                   "WHERE COALESCE(af.generated_at, af.created_at) < :before " +
+                   "AND NOT EXISTS (SELECT 1 FROM ai_feedback_latest l WHERE l.feedback_id = af.id) " +
+                   "AND NOT EXISTS (SELECT 1 FROM action_plan ap WHERE ap.feedback_id = af.id) " +
+                   "LIMIT :limit)",
+           nativeQuery = true)
+    int deleteHistoryBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
 }
@@ -0,0 +1,42 @@
+package com.ktds.hi.analytics.infra.gateway.repository;
+
+import com.ktds.hi.analytics.infra.gateway.entity.AiFeedbackLatestEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매장별 최신 AI 피드백 JPA 리포지토리 인터페이스
+ */
+@Repository
+public interface AiFeedbackLatestJpaRepository extends JpaRepository<AiFeedbackLatestEntity, Long> {
+
+    /**
+     * 최신 AI 피드백 지정 (더 최근 이력을 가리키고 있으면 유지)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ai_feedback_latest (store_id, feedback_id, generated_at, updated_at) " +
+                   "VALUES (:storeId, :feedbackId, :generatedAt, :now) " +
+                   "ON CONFLICT (store_id) DO UPDATE SET feedback_id = EXCLUDED.feedback_id, " +
+                   "generated_at = EXCLUDED.generated_at, updated_at = EXCLUDED.updated_at " +
+                   "WHERE ai_feedback_latest.feedback_id <= EXCLUDED.feedback_id",
+           nativeQuery = true)
+    int upsert(@Param("storeId") Long storeId, @Param("feedbackId") Long feedbackId,
+               @Param("generatedAt") LocalDateTime generatedAt, @Param("now") LocalDateTime now);
+
+    /**
+     * 최신 AI 피드백이 지정되지 않은 매장을 이력의 최신 행으로 채움
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ai_feedback_latest (store_id, feedback_id, generated_at, updated_at) " +
+                   "SELECT DISTINCT ON (af.store_id) af.store_id, af.id, af.generated_at, :now FROM ai_feedback af " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM ai_feedback_latest l WHERE l.store_id = af.store_id) " +
+                   "ORDER BY af.store_id, af.generated_at DESC NULLS LAST, af.id DESC " +
+                   "ON CONFLICT (store_id) DO NOTHING",
+           nativeQuery = true)
+    int backfillMissing(@Param("now") LocalDateTime now);
+}
@@ -2,6 +2,7 @@ package com.ktds.hi.analytics.infra.gateway.repository;
 
 import com.ktds.hi.analytics.infra.gateway.entity.AnalyticsEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -25,8 +26,14 @@ public interface AnalyticsJpaRepository extends JpaRepository<AnalyticsEntity, L
     /**
      * 매장 ID로 최신 분석 데이터 조회
      */
-    @Query("SELECT a FROM AnalyticsEntity a WHERE a.storeId = :storeId ORDER BY a.lastAnalysisDate DESC")
+    @Query("SELECT a FROM AnalyticsEntity a WHERE a.storeId = :storeId ORDER BY a.lastAnalysisDate DESC, a.id DESC LIMIT 1")
     Optional<AnalyticsEntity> findLatestByStoreId(@Param("storeId") Long storeId);
+
+    /**
+     * 매장별 최신 분석 데이터 테이블을 통해 현재 분석 데이터 조회
+     */
+    @Query("SELECT a FROM AnalyticsEntity a, AnalyticsLatestEntity l WHERE l.storeId = :storeId AND a.id = l.analyticsId")
+    Optional<AnalyticsEntity> findCurrentByStoreId(@Param("storeId") Long storeId);
     
     /**
      * 특정 기간 이후 분석된 매장 목록 조회
@@ -45,4 +52,17 @@ public interface AnalyticsJpaRepository extends JpaRepository<AnalyticsEntity, L
      */
     @Query("SELECT a FROM AnalyticsEntity a WHERE a.negativeReviewRate >= :rate ORDER BY a.negativeReviewRate DESC")
     List<AnalyticsEntity> findByHighNegativeReviewRate(@Param("rate") Double rate);
+
+    /**
+     * 보존 기간이 지난 분석 이력 삭제 (현재 분석 데이터 제외, 최대 limit건)
+     * 분석일이 없는 이력은 생성일 기준으로 판단
+     */
+    @Modifying
+    @Query(value = "DELETE FROM analytics WHERE id IN (" +
+                   "SELECT a.id FROM analytics a " +
+                   "WHERE COALESCE(a.last_analysis_date, a.created_at) < :before " +
+                   "AND NOT EXISTS (SELECT 1 FROM analytics_latest l WHERE l.analytics_id = a.id) " +
+                   "LIMIT :limit)",
+           nativeQuery = true)
+    int deleteHistoryBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
 }
@@ -0,0 +1,40 @@
+package com.ktds.hi.analytics.infra.gateway.repository;
+
+import com.ktds.hi.analytics.infra.gateway.entity.AnalyticsLatestEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매장별 최신 분석 데이터 JPA 리포지토리 인터페이스
+ */
+@Repository
+public interface AnalyticsLatestJpaRepository extends JpaRepository<AnalyticsLatestEntity, Long> {
+
+    /**
+     * 최신 분석 데이터 지정 (더 최근 이력을 가리키고 있으면 유지)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO analytics_latest (store_id, analytics_id, updated_at) " +
+                   "VALUES (:storeId, :analyticsId, :now) " +
+                   "ON CONFLICT (store_id) DO UPDATE SET analytics_id = EXCLUDED.analytics_id, updated_at = EXCLUDED.updated_at " +
+                   "WHERE analytics_latest.analytics_id <= EXCLUDED.analytics_id",
+           nativeQuery = true)
+    int upsert(@Param("storeId") Long storeId, @Param("analyticsId") Long analyticsId, @Param("now") LocalDateTime now);
+
+    /**
+     * 최신 분석 데이터가 지정되지 않은 매장을 이력의 최신 행으로 채움
+     */
+    @Modifying
+    @Query(value = "INSERT INTO analytics_latest (store_id, analytics_id, updated_at) " +
+                   "SELECT DISTINCT ON (a.store_id) a.store_id, a.id, :now FROM analytics a " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM analytics_latest l WHERE l.store_id = a.store_id) " +
+                   "ORDER BY a.store_id, a.last_analysis_date DESC NULLS LAST, a.id DESC " +
+                   "ON CONFLICT (store_id) DO NOTHING",
+           nativeQuery = true)
+    int backfillMissing(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,46 @@
+package com.ktds.hi.analytics.infra.gateway.repository;
+
+import com.ktds.hi.analytics.biz.domain.BatchRunStatus;
+import com.ktds.hi.analytics.infra.gateway.entity.BatchRunEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 야간 일괄 분석 실행 JPA 리포지토리 인터페이스
+ */
+@Repository
+public interface BatchRunJpaRepository extends JpaRepository<BatchRunEntity, Long> {
+
+    /**
+     * 기준일 실행 조회
+     */
+    Optional<BatchRunEntity> findByBatchDate(LocalDate batchDate);
+
+    /**
+     * 상태별 가장 최근 실행 조회
+     */
+    Optional<BatchRunEntity> findTopByStatusOrderByBatchDateDesc(BatchRunStatus status);
+
+    /**
+     * 생존 시각이 기준보다 오래된 진행 중 실행의 생존 시각 갱신 (가져오기)
+     */
+    @Modifying
+    @Query("UPDATE BatchRunEntity r SET r.heartbeatAt = :now " +
+           "WHERE r.id = :runId AND r.status = :status AND r.heartbeatAt < :staleBefore")
+    int takeOver(@Param("runId") Long runId, @Param("status") BatchRunStatus status,
+                 @Param("staleBefore") LocalDateTime staleBefore, @Param("now") LocalDateTime now);
+
+    /**
+     * 생존 시각 갱신
+     */
+    @Modifying
+    @Query("UPDATE BatchRunEntity r SET r.heartbeatAt = :now WHERE r.id = :runId")
+    int updateHeartbeat(@Param("runId") Long runId, @Param("now") LocalDateTime now);
+}
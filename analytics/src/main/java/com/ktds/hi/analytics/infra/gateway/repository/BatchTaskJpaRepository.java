@@ -0,0 +1,39 @@
+package com.ktds.hi.analytics.infra.gateway.repository;
+
+import com.ktds.hi.analytics.biz.domain.BatchTaskStatus;
+import com.ktds.hi.analytics.infra.gateway.entity.BatchTaskEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 야간 일괄 분석 매장별 작업 JPA 리포지토리 인터페이스
+ */
+@Repository
+public interface BatchTaskJpaRepository extends JpaRepository<BatchTaskEntity, Long> {
+
+    /**
+     * 실행의 상태별 작업 조회
+     */
+    List<BatchTaskEntity> findByRunIdAndStatusOrderByPartitionNoAscIdAsc(Long runId, BatchTaskStatus status);
+
+    /**
+     * 실행의 상태별 작업 수
+     */
+    long countByRunIdAndStatus(Long runId, BatchTaskStatus status);
+
+    /**
+     * 작업 처리 결과 기록
+     */
+    @Modifying
+    @Query("UPDATE BatchTaskEntity t SET t.status = :status, t.attempts = t.attempts + 1, " +
+           "t.errorMessage = :errorMessage, t.updatedAt = :now WHERE t.runId = :runId AND t.storeId = :storeId")
+    int updateStatus(@Param("runId") Long runId, @Param("storeId") Long storeId,
+                     @Param("status") BatchTaskStatus status, @Param("errorMessage") String errorMessage,
+                     @Param("now") LocalDateTime now);
+}
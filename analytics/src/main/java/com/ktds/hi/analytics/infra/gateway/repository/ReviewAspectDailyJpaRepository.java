@@ -0,0 +1,36 @@
+package com.ktds.hi.analytics.infra.gateway.repository;
+
+import com.ktds.hi.analytics.infra.gateway.entity.ReviewAspectDailyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 매장 일별 항목 언급 수 JPA 리포지토리 인터페이스
+ */
+@Repository
+public interface ReviewAspectDailyJpaRepository extends JpaRepository<ReviewAspectDailyEntity, Long> {
+
+    /**
+     * 기간별 매장 일별 항목 언급 수 조회
+     */
+    List<ReviewAspectDailyEntity> findByStoreIdAndReviewDateBetweenOrderByReviewDateAsc(
+            Long storeId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 언급 수 증감 (0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO review_aspect_daily (store_id, review_date, aspect, sentiment, mention_count) " +
+                   "VALUES (:storeId, :reviewDate, :aspect, :sentiment, GREATEST(:delta, 0)) " +
+                   "ON CONFLICT (store_id, review_date, aspect, sentiment) " +
+                   "DO UPDATE SET mention_count = GREATEST(review_aspect_daily.mention_count + :delta, 0)",
+           nativeQuery = true)
+    int addCount(@Param("storeId") Long storeId, @Param("reviewDate") LocalDate reviewDate,
+                 @Param("aspect") String aspect, @Param("sentiment") String sentiment, @Param("delta") int delta);
+}
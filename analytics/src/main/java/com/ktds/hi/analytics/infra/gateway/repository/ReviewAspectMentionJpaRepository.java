@@ -0,0 +1,32 @@
+package com.ktds.hi.analytics.infra.gateway.repository;
+
+import com.ktds.hi.analytics.infra.gateway.entity.ReviewAspectMentionEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 리뷰별 항목 언급 JPA 리포지토리 인터페이스
+ */
+@Repository
+public interface ReviewAspectMentionJpaRepository extends JpaRepository<ReviewAspectMentionEntity, Long> {
+
+    /**
+     * 리뷰 ID 목록으로 항목 언급 조회
+     */
+    List<ReviewAspectMentionEntity> findByReviewIdIn(Collection<Long> reviewIds);
+
+    /**
+     * 리뷰 ID로 항목 언급 조회 (갱신용 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM ReviewAspectMentionEntity m WHERE m.reviewId = :reviewId")
+    Optional<ReviewAspectMentionEntity> findForUpdate(@Param("reviewId") Long reviewId);
+}
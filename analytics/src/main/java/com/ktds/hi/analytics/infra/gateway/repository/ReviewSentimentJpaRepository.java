@@ -0,0 +1,21 @@
+package com.ktds.hi.analytics.infra.gateway.repository;
+
+import com.ktds.hi.analytics.infra.gateway.entity.ReviewSentimentEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 리뷰 감정 분석 결과 JPA 리포지토리 인터페이스
+ * 리뷰별 감정 분석 결과의 CRUD 작업을 담당
+ */
+@Repository
+public interface ReviewSentimentJpaRepository extends JpaRepository<ReviewSentimentEntity, Long> {
+
+    /**
+     * 리뷰 ID 목록으로 감정 분석 결과 조회
+     */
+    List<ReviewSentimentEntity> findByReviewIdIn(Collection<Long> reviewIds);
+}
@@ -0,0 +1,53 @@
+package com.ktds.hi.analytics.biz.service;
+
+import com.ktds.hi.analytics.biz.domain.AspectMention;
+import com.ktds.hi.analytics.biz.domain.ReviewAspect;
+import com.ktds.hi.analytics.biz.domain.SentimentType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 리뷰 항목 언급 추출 테스트
+ */
+class ReviewAspectExtractorTest {
+
+    private final ReviewAspectExtractor extractor =
+        new ReviewAspectExtractor(new LexiconSentimentClassifier(1.5, 0.75));
+
+    @Test
+    @DisplayName("감정이 없는 절의 항목은 다음 절에 항목이 있어도 중립으로 남음")
+    void keepsUndecidedAspectsAsNeutralBeforeNextAspectClause() {
+        List<AspectMention> mentions = extractor.extract("음식은 평범. 가격이 비싸요");
+
+        assertThat(mentions)
+            .extracting(AspectMention::getAspect, AspectMention::getSentiment)
+            .containsExactly(
+                tuple(ReviewAspect.TASTE, SentimentType.NEUTRAL),
+                tuple(ReviewAspect.PRICE, SentimentType.NEGATIVE));
+    }
+
+    @Test
+    @DisplayName("항목 없이 감정만 있는 절은 앞 절의 항목에 적용")
+    void appliesSentimentOnlyClauseToPreviousAspects() {
+        List<AspectMention> mentions = extractor.extract("웨이팅 1시간... 최악");
+
+        assertThat(mentions)
+            .extracting(AspectMention::getAspect, AspectMention::getSentiment)
+            .containsExactly(tuple(ReviewAspect.WAIT, SentimentType.NEGATIVE));
+    }
+
+    @Test
+    @DisplayName("\"시간이\"는 맛 항목으로 추출하지 않음")
+    void doesNotMatchTasteInsideWaitingTime() {
+        List<AspectMention> mentions = extractor.extract("대기시간이 길어요");
+
+        assertThat(mentions)
+            .extracting(AspectMention::getAspect)
+            .containsExactly(ReviewAspect.WAIT);
+    }
+}